@@ -0,0 +1,32 @@
+package freelanceplatform.config;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.spring.cache.HazelcastCacheManager;
+import freelanceplatform.services.cache.MeteredCacheManager;
+import freelanceplatform.services.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(LocalCacheProperties.class)
+public class CachingConfig {
+
+    /**
+     * Creates the cache manager backing {@code @Cacheable} and friends, with Hazelcast maps as caches,
+     * deserialized local copies of the caches configured under {@code app.cache.local} and usage meters
+     * published per cache.
+     *
+     * @param hazelcastInstance    the member the caches are read through
+     * @param localCacheProperties the caches with a local level
+     * @param meterRegistry        the registry the meters of the caches are published to
+     * @return the cache manager
+     */
+    @Bean
+    public MeteredCacheManager cacheManager(HazelcastInstance hazelcastInstance, LocalCacheProperties localCacheProperties,
+                                            MeterRegistry meterRegistry) {
+        return new MeteredCacheManager(new TwoLevelCacheManager(
+                new HazelcastCacheManager(hazelcastInstance), localCacheProperties.local()), meterRegistry);
+    }
+}
@@ -0,0 +1,154 @@
+package freelanceplatform.config;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.zaxxer.hikari.HikariDataSource;
+import freelanceplatform.data.ReplicaRoutingDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Routes read-only transactions to the read replicas configured under {@code app.datasource.replicas}.
+ * Without replicas the application keeps the single DataSource auto-configured by Spring Boot.
+ */
+@Configuration
+@ConditionalOnProperty("app.datasource.replicas[0].url")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class DataSourceConfig {
+
+    /**
+     * Name of the Hazelcast map holding the sessions that committed a write.
+     */
+    public static final String WRITER_SESSIONS_MAP = "replica-writer-sessions";
+
+    /**
+     * Creates the pool of the primary database from the {@code spring.datasource} properties.
+     *
+     * @param properties the {@code spring.datasource} properties
+     * @return the pool of the primary database
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Creates a pool for each replica and the DataSource choosing between them and the primary. Sessions that
+     * committed a write are kept in a Hazelcast map, so every instance sends their reads to the primary.
+     *
+     * @param primaryDataSource the pool of the primary database
+     * @param primary           the {@code spring.datasource} properties
+     * @param replicaProperties the replicas
+     * @param hazelcastInstance the member holding the sessions that wrote
+     * @return the routing DataSource
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource, DataSourceProperties primary,
+                                                             ReplicaProperties replicaProperties,
+                                                             HazelcastInstance hazelcastInstance) {
+        final Map<String, DataSource> replicas = new LinkedHashMap<>();
+        final List<ReplicaProperties.Replica> configured = replicaProperties.replicas();
+        for (int i = 0; i < configured.size(); i++) {
+            final ReplicaProperties.Replica replica = configured.get(i);
+            final HikariDataSource pool = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(primary.determineDriverClassName())
+                    .url(replica.url())
+                    .username(replica.username() == null ? primary.determineUsername() : replica.username())
+                    .password(replica.password() == null ? primary.determinePassword() : replica.password())
+                    .build();
+            pool.setPoolName("replica-" + i);
+            pool.setReadOnly(true);
+            replicas.put(pool.getPoolName(), pool);
+        }
+        final IMap<String, Boolean> writers = hazelcastInstance.getMap(WRITER_SESSIONS_MAP);
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, replicaProperties.maxLag(),
+                replicaProperties.lagCheckInterval(), DataSourceConfig::currentSession,
+                new ReplicaRoutingDataSource.WriterSessions() {
+                    @Override
+                    public void add(String session, Duration timeToLive) {
+                        writers.set(session, Boolean.TRUE, timeToLive.toMillis(), TimeUnit.MILLISECONDS);
+                    }
+
+                    @Override
+                    public boolean contains(String session) {
+                        return writers.containsKey(session);
+                    }
+                });
+    }
+
+    /**
+     * Provides the DataSource used by JPA, Liquibase and JDBC. Connections are taken from the primary or a
+     * replica only when the first statement runs, once the transaction tells whether it is read-only.
+     *
+     * @param replicaRoutingDataSource the routing DataSource
+     * @return the DataSource of the application
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * Makes Hibernate return its connection after each transaction instead of holding it until the session
+     * closes. With the session open for the whole request, a held connection would carry the first
+     * transaction's choice of database to the following ones.
+     *
+     * @return the customizer of the Hibernate properties
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    /**
+     * Sends the reads of a session that committed a write to the primary for a while.
+     *
+     * @param replicaRoutingDataSource the routing DataSource
+     * @return the listener registered on the transaction manager
+     */
+    @Bean
+    public TransactionExecutionListener replicaStickinessListener(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new TransactionExecutionListener() {
+            @Override
+            public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+                if (commitFailure == null && transaction.isNewTransaction() && !transaction.isReadOnly()) {
+                    replicaRoutingDataSource.recordWrite();
+                }
+            }
+        };
+    }
+
+    private static String currentSession() {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -1,5 +1,6 @@
 package freelanceplatform.config;
 import jakarta.servlet.MultipartConfigElement;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.web.servlet.MultipartConfigFactory;
 import org.springframework.context.annotation.Bean;
@@ -17,14 +18,16 @@ public class FileUploadConfig {
 
     /**
      * Configures the multipart settings for file uploads.
-     * Sets the maximum file size and request size to 128KB
+     * Sets the maximum file size, leaving room for the other fields of the request. Uploaded files are kept
+     * on disk by the server and streamed from there, so the limit does not bound the heap.
+     * @param maxFileSize the maximum size of an uploaded file
      * @return the configured MultipartConfigElement
      */
     @Bean
-    MultipartConfigElement multipartConfigElement() {
+    MultipartConfigElement multipartConfigElement(@Value("${app.upload.max-file-size:10MB}") DataSize maxFileSize) {
         MultipartConfigFactory factory = new MultipartConfigFactory();
-        factory.setMaxFileSize(DataSize.parse("128KB"));
-        factory.setMaxRequestSize(DataSize.parse("128KB"));
+        factory.setMaxFileSize(maxFileSize);
+        factory.setMaxRequestSize(DataSize.ofBytes(maxFileSize.toBytes() + DataSize.ofKilobytes(64).toBytes()));
         return factory.createMultipartConfig();
     }
 }
@@ -0,0 +1,29 @@
+package freelanceplatform.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Local cache levels kept on the heap of each instance in front of the shared caches, by cache name.
+ *
+ * @param local the local level of each cache that has one
+ */
+@ConfigurationProperties("app.cache")
+public record LocalCacheProperties(Map<String, Spec> local) {
+
+    public LocalCacheProperties {
+        local = local == null ? Map.of() : local;
+    }
+
+    /**
+     * Bounds of the local level of one cache. The time to live should stay well below the one of the shared
+     * cache, since it also bounds how long an invalidation lost by the cluster leaves a stale copy.
+     *
+     * @param maxSize maximum number of values kept
+     * @param ttl     time a value is kept after it was read from the shared cache
+     */
+    public record Spec(long maxSize, Duration ttl) {
+    }
+}
@@ -0,0 +1,33 @@
+package freelanceplatform.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replicas of the primary database that serve read-only transactions.
+ *
+ * @param replicas         the replicas, none by default
+ * @param maxLag           largest replication lag of a replica still read from
+ * @param lagCheckInterval time between two checks of the lag of each replica
+ */
+@ConfigurationProperties("app.datasource")
+public record ReplicaProperties(List<Replica> replicas, Duration maxLag, Duration lagCheckInterval) {
+
+    public ReplicaProperties {
+        replicas = replicas == null ? List.of() : replicas;
+        maxLag = maxLag == null ? Duration.ofSeconds(1) : maxLag;
+        lagCheckInterval = lagCheckInterval == null ? Duration.ofSeconds(1) : lagCheckInterval;
+    }
+
+    /**
+     * Connection to one replica. Username and password default to the ones of the primary.
+     *
+     * @param url      JDBC URL of the replica
+     * @param username login user of the replica
+     * @param password login password of the replica
+     */
+    public record Replica(String url, String username, String password) {
+    }
+}
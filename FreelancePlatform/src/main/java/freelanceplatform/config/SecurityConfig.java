@@ -3,9 +3,15 @@ package freelanceplatform.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import freelanceplatform.security.AuthenticationFailure;
 import freelanceplatform.security.AuthenticationSuccess;
+import freelanceplatform.security.CachingAuthenticationProvider;
+import freelanceplatform.services.security.UserDetailsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.metrics.MetricsEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -17,6 +23,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 
+import java.time.Duration;
+
 /**
  * Security configuration class for setting up the security settings of the application.
  * This configuration enables web security, method security, and sets up custom authentication
@@ -48,6 +56,26 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    /**
+     * Provides the authentication provider verifying usernames and passwords against the stored users.
+     * Verified credentials are remembered for a short time, so repeated HTTP Basic requests skip the database
+     * and the BCrypt verification.
+     *
+     * @param userDetailsService the service loading users by username
+     * @param passwordEncoder    the encoder of the stored passwords
+     * @param ttl                how long verified credentials are remembered
+     * @param maxEntries         maximal number of remembered credentials
+     * @return the AuthenticationProvider bean
+     */
+    @Bean
+    public CachingAuthenticationProvider authenticationProvider(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder,
+                                                                @Value("${app.security.credentials-cache.ttl:PT5M}") Duration ttl,
+                                                                @Value("${app.security.credentials-cache.max-entries:10000}") int maxEntries) {
+        final DaoAuthenticationProvider verifier = new DaoAuthenticationProvider(passwordEncoder);
+        verifier.setUserDetailsService(userDetailsService);
+        return new CachingAuthenticationProvider(verifier, ttl, maxEntries);
+    }
+
     /**
      * Configures the security filter chain.
      * Allows all requests but uses method security annotations for securing endpoints.
@@ -63,8 +91,10 @@ public class SecurityConfig {
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         final AuthenticationSuccess authSuccess = authenticationSuccess();
-        // Allow through everything, it will be dealt with using security annotations on methods
-        http.authorizeHttpRequests((auth) -> auth.anyRequest().permitAll())
+        // Allow through everything but the metrics, the rest is dealt with using security annotations on methods
+        http.authorizeHttpRequests((auth) -> auth
+                        .requestMatchers(EndpointRequest.to(MetricsEndpoint.class)).hasRole("ADMIN")
+                        .anyRequest().permitAll())
                 .httpBasic(Customizer.withDefaults())
                 // Return 401 by default when attempting to access a secured endpoint
                 .exceptionHandling(ehc -> ehc.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
@@ -1,5 +1,6 @@
 package freelanceplatform.config;
 
+import freelanceplatform.controllers.TaskController;
 import freelanceplatform.logging.LoggerInterceptor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
@@ -38,7 +39,8 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins("http://localhost:3000")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
-                .exposedHeaders("Access-Control-Allow-Origin", "Access-Control-Allow-Credentials")
+                .exposedHeaders("Access-Control-Allow-Origin", "Access-Control-Allow-Credentials",
+                        TaskController.NEXT_CURSOR_HEADER, TaskController.PREVIOUS_CURSOR_HEADER)
                 .allowCredentials(true)
                 .maxAge(3600);
     }
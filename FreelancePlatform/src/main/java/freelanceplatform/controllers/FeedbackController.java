@@ -1,5 +1,6 @@
 package freelanceplatform.controllers;
 
+import freelanceplatform.controllers.util.NdjsonWriter;
 import freelanceplatform.dto.Mapper;
 import freelanceplatform.dto.creation.FeedbackCreation;
 import freelanceplatform.dto.readUpdate.FeedbackReadUpdate;
@@ -10,10 +11,12 @@ import freelanceplatform.services.FeedbackService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -33,6 +36,7 @@ public class FeedbackController {
 
     private final FeedbackService feedbackService;
     private final Mapper mapper;
+    private final NdjsonWriter ndjsonWriter;
 
     private final static ResponseEntity<Void> FORBIDDEN1 = new ResponseEntity<>(FORBIDDEN);
     private final static ResponseEntity<Void> BAD_REQUEST = new ResponseEntity<>(HttpStatus.BAD_REQUEST);
@@ -45,7 +49,7 @@ public class FeedbackController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<FeedbackReadUpdate> findById(@PathVariable Integer id) {
-        return feedbackService.findById(id)
+        return feedbackService.findSnapshotById(id)
                 .map(fb -> ResponseEntity
                         .ok(mapper.toFeedbackReadUpdate(fb)))
                 .orElse(ResponseEntity.notFound().build());
@@ -62,6 +66,16 @@ public class FeedbackController {
                 .map(mapper::toFeedbackReadUpdate).toList());
     }
 
+    /**
+     * Streams all feedbacks as newline delimited JSON, one feedback per line.
+     *
+     * @return a response streaming the feedback DTOs
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return ndjsonWriter.stream(feedbackService::streamAll);
+    }
+
     /**
      * Updates an existing feedback.
      *
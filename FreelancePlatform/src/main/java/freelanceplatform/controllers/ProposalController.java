@@ -1,5 +1,6 @@
 package freelanceplatform.controllers;
 
+import freelanceplatform.controllers.util.NdjsonWriter;
 import freelanceplatform.dto.Mapper;
 import freelanceplatform.dto.creation.ProposalCreation;
 import freelanceplatform.dto.readUpdate.ProposalReadUpdate;
@@ -10,10 +11,12 @@ import freelanceplatform.services.ProposalService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -33,6 +36,7 @@ public class ProposalController {
 
     private final ProposalService proposalService;
     private final Mapper mapper;
+    private final NdjsonWriter ndjsonWriter;
 
     private final static ResponseEntity<Void> FORBIDDEN1 = new ResponseEntity<>(FORBIDDEN);
     private final static ResponseEntity<Void> BAD_REQUEST = new ResponseEntity<>(HttpStatus.BAD_REQUEST);
@@ -45,7 +49,7 @@ public class ProposalController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<ProposalReadUpdate> findById(@PathVariable Integer id) {
-        return proposalService.findById(id)
+        return proposalService.findSnapshotById(id)
                 .map(pr -> ResponseEntity.ok(mapper.toProposalReadUpdate(pr)))
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -61,6 +65,16 @@ public class ProposalController {
                 .map(mapper::toProposalReadUpdate).toList());
     }
 
+    /**
+     * Streams all proposals as newline delimited JSON, one proposal per line.
+     *
+     * @return a response streaming the proposal DTOs
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return ndjsonWriter.stream(proposalService::streamAll);
+    }
+
     /**
      * Updates an existing proposal.
      *
@@ -53,7 +53,7 @@ public class SolutionController {
      */
     @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<SolutionReadUpdate> getById(@PathVariable Integer id) {
-        return solutionService.findById(id)
+        return solutionService.findSnapshotById(id)
                 .map(solution -> ResponseEntity.ok(mapper.toSolutionReadUpdate(solution))).orElse(ResponseEntity.notFound().build());
     }
 
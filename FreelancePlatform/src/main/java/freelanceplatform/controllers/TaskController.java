@@ -1,27 +1,47 @@
 package freelanceplatform.controllers;
 
 
+import freelanceplatform.controllers.util.NdjsonWriter;
+import freelanceplatform.data.TaskFilter;
 import freelanceplatform.dto.Mapper;
 import freelanceplatform.dto.creation.TaskCreation;
+import freelanceplatform.dto.paging.KeysetPage;
+import freelanceplatform.dto.paging.TaskBoardCursor;
+import freelanceplatform.dto.paging.TaskSearchCursor;
+import freelanceplatform.dto.readUpdate.TaskBoardDelta;
+import freelanceplatform.dto.readUpdate.TaskFacets;
+import freelanceplatform.dto.readUpdate.TaskImportReport;
 import freelanceplatform.dto.readUpdate.TaskReadUpdate;
+import freelanceplatform.dto.snapshot.TaskSnapshot;
 import freelanceplatform.model.*;
 import freelanceplatform.model.security.UserDetails;
+import freelanceplatform.services.TaskImportService;
 import freelanceplatform.services.TaskService;
 import freelanceplatform.services.UserService;
+import freelanceplatform.services.board.TaskBoardFeed;
+import freelanceplatform.services.versions.ResourceVersions;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 
 @Slf4j
@@ -31,9 +51,20 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class TaskController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String PREVIOUS_CURSOR_HEADER = "X-Previous-Cursor";
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
     private final UserService userService;
     private final Mapper mapper;
+    private final NdjsonWriter ndjsonWriter;
+    private final ResourceVersions resourceVersions;
+    private final TaskBoardFeed taskBoardFeed;
 
     /**
      * Saves a new task based on the provided TaskCreationDTO.
@@ -56,32 +87,196 @@ public class TaskController {
     }
 
     /**
-     * Retrieves a task by its ID.
+     * Imports tasks of the current user from a body holding one task per line in NDJSON. Rows that cannot be
+     * imported are reported without stopping the import.
+     *
+     * @param body the NDJSON body
+     * @param auth the Authentication object for the current user
+     * @return ResponseEntity with the import report
+     */
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TaskImportReport> importNdjson(InputStream body, Authentication auth) {
+        return importTasks(body, TaskImportService.Format.NDJSON, auth);
+    }
+
+    /**
+     * Imports tasks of the current user from a CSV body whose header names the task properties. Rows that
+     * cannot be imported are reported without stopping the import.
+     *
+     * @param body the CSV body
+     * @param auth the Authentication object for the current user
+     * @return ResponseEntity with the import report
+     */
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
+    @PostMapping(value = "/import", consumes = TEXT_CSV_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TaskImportReport> importCsv(InputStream body, Authentication auth) {
+        return importTasks(body, TaskImportService.Format.CSV, auth);
+    }
+
+    private ResponseEntity<TaskImportReport> importTasks(InputStream body, TaskImportService.Format format, Authentication auth) {
+        final User user = ((UserDetails) auth.getPrincipal()).getUser();
+        return ResponseEntity.ok(taskImportService.importTasks(body, format, user.getId()));
+    }
+
+    /**
+     * Retrieves a task by its ID. Answers 304 if the task did not change since the version given in If-None-Match.
      *
-     * @param id the ID of the task
+     * @param id      the ID of the task
+     * @param request the current request
      * @return ResponseEntity with the task data or 404 if not found
      */
     @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<TaskReadUpdate> getById(@PathVariable Integer id) {
-        return taskService.findById(id)
-                .map(task -> ResponseEntity.ok(mapper.toTaskReadUpdate(task))).orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<TaskReadUpdate> getById(@PathVariable Integer id, WebRequest request) {
+        // the tag is read before the task, so it never claims a newer version than the one returned
+        final String tag = resourceVersions.taskTag(id);
+        final Optional<TaskSnapshot> task = taskService.findSnapshotById(id);
+        if (task.isEmpty()) return ResponseEntity.notFound().build();
+        if (request.checkNotModified(tag)) return null;
+        return ResponseEntity.ok(mapper.toTaskReadUpdate(task.get()));
     }
 
     /**
      * Retrieves all tasks based on specified filters.
      *
+     * <p>Without {@code limit}, {@code after} and {@code before} the whole board is returned. When any of them
+     * is present, a single keyset page is returned and the cursors of the neighbouring pages are sent in the
+     * {@value #NEXT_CURSOR_HEADER} and {@value #PREVIOUS_CURSOR_HEADER} headers. Answers 304 if the board
+     * did not change since the version given in If-None-Match.
+     *
      * @param fromNewest Whether to sort tasks from newest to oldest.
      * @param type       Optional parameter to filter tasks by type.
+     * @param limit      Optional maximal number of tasks in the page.
+     * @param after      Optional cursor of the last task of the previous page.
+     * @param before     Optional cursor of the first task of the following page.
+     * @param request    The current request.
      * @return ResponseEntity containing a list of TaskDTOs.
      */
     @GetMapping(value = "/taskBoard", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Iterable<TaskReadUpdate>> getAllTaskBoard(@RequestParam boolean fromNewest,
+                                                                    @RequestParam(required = false) TaskType type,
+                                                                    @RequestParam(required = false) Integer limit,
+                                                                    @RequestParam(required = false) String after,
+                                                                    @RequestParam(required = false) String before,
+                                                                    WebRequest request) {
+        if (request.checkNotModified(resourceVersions.boardTag(type))) return null;
+        if (limit == null && after == null && before == null) {
+            return ResponseEntity.ok(taskService.findTaskBoard(type, fromNewest));
+        }
+        if (after != null && before != null) return ResponseEntity.badRequest().build();
+
+        final int pageSize = Math.min(Math.max(Optional.ofNullable(limit).orElse(DEFAULT_PAGE_SIZE), 1), MAX_PAGE_SIZE);
+        final KeysetPage<TaskReadUpdate> page = taskService.findTaskBoardPage(type, fromNewest,
+                TaskBoardCursor.decode(after), TaskBoardCursor.decode(before), pageSize);
+        final HttpHeaders headers = new HttpHeaders();
+        Optional.ofNullable(page.nextCursor()).ifPresent(cursor -> headers.set(NEXT_CURSOR_HEADER, cursor));
+        Optional.ofNullable(page.previousCursor()).ifPresent(cursor -> headers.set(PREVIOUS_CURSOR_HEADER, cursor));
+        return ResponseEntity.ok().headers(headers).body(page.items());
+    }
+
+    /**
+     * Streams the whole task board as newline delimited JSON, one task per line.
+     *
+     * @param fromNewest Whether to sort tasks from newest to oldest.
+     * @param type       Optional parameter to filter tasks by type.
+     * @return ResponseEntity streaming the tasks.
+     */
+    @GetMapping(value = "/taskBoard", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllTaskBoard(@RequestParam boolean fromNewest,
                                                                     @RequestParam(required = false) TaskType type) {
-        List<Task> tasks = Optional.ofNullable(type)
-                .map(t -> taskService.findAllTaskBoardByTypeAndPostedDate(t, fromNewest))
-                .orElseGet(() -> taskService.findAllTaskBoardByPostedDate(fromNewest));
-        List<TaskReadUpdate> taskReadUpdates = tasks.stream().map(mapper::toTaskReadUpdate).toList();
-        return ResponseEntity.ok(taskReadUpdates);
+        return ndjsonWriter.<TaskReadUpdate>stream(consumer -> taskService.streamTaskBoard(type, fromNewest, consumer));
+    }
+
+    /**
+     * Subscribes to live changes of the task board as Server-Sent Events named after {@link TaskBoardDelta.Kind}.
+     * Clients load the board first and then apply the deltas. When the connection is closed, e.g. because
+     * the client did not keep up with the changes, the board has to be loaded again.
+     *
+     * @param type Optional parameter to receive changes of tasks of this type only.
+     * @return the event stream.
+     */
+    @GetMapping(value = "/taskBoard/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeTaskBoard(@RequestParam(required = false) TaskType type) {
+        return taskBoardFeed.subscribe(type);
+    }
+
+    /**
+     * Retrieves one keyset page of tasks matching any combination of the given filters, sorted by posted date.
+     * The cursors of the neighbouring pages are sent in the {@value #NEXT_CURSOR_HEADER} and
+     * {@value #PREVIOUS_CURSOR_HEADER} headers.
+     *
+     * @param types          Optional types the tasks have to have one of.
+     * @param status         Optional parameter to filter tasks by status.
+     * @param minPayment     Optional lowest payment, inclusive.
+     * @param maxPayment     Optional highest payment, inclusive.
+     * @param deadlineAfter  Optional time the deadline has to be after.
+     * @param deadlineBefore Optional time the deadline has to be before.
+     * @param fromNewest     Whether to sort tasks from newest to oldest.
+     * @param limit          Optional maximal number of tasks in the page.
+     * @param after          Optional cursor of the last task of the previous page.
+     * @param before         Optional cursor of the first task of the following page.
+     * @return ResponseEntity containing a list of TaskDTOs.
+     */
+    @GetMapping(value = "/filter", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Iterable<TaskReadUpdate>> getFiltered(@RequestParam(required = false) Set<TaskType> types,
+                                                                @RequestParam(required = false) TaskStatus status,
+                                                                @RequestParam(required = false) Double minPayment,
+                                                                @RequestParam(required = false) Double maxPayment,
+                                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime deadlineAfter,
+                                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime deadlineBefore,
+                                                                @RequestParam(defaultValue = "true") boolean fromNewest,
+                                                                @RequestParam(required = false) Integer limit,
+                                                                @RequestParam(required = false) String after,
+                                                                @RequestParam(required = false) String before) {
+        final TaskFilter filter = TaskFilter.builder()
+                .types(types)
+                .status(status)
+                .minPayment(minPayment)
+                .maxPayment(maxPayment)
+                .deadlineAfter(deadlineAfter)
+                .deadlineBefore(deadlineBefore)
+                .build();
+        final int pageSize = Math.min(Math.max(Optional.ofNullable(limit).orElse(DEFAULT_PAGE_SIZE), 1), MAX_PAGE_SIZE);
+        final KeysetPage<TaskReadUpdate> page = taskService.findFilteredPage(filter, fromNewest,
+                TaskBoardCursor.decode(after), TaskBoardCursor.decode(before), pageSize);
+        final HttpHeaders headers = new HttpHeaders();
+        Optional.ofNullable(page.nextCursor()).ifPresent(cursor -> headers.set(NEXT_CURSOR_HEADER, cursor));
+        Optional.ofNullable(page.previousCursor()).ifPresent(cursor -> headers.set(PREVIOUS_CURSOR_HEADER, cursor));
+        return ResponseEntity.ok().headers(headers).body(page.items());
+    }
+
+    /**
+     * Retrieves the numbers of tasks per type and per status.
+     *
+     * @return ResponseEntity containing the counts.
+     */
+    @GetMapping(value = "/facets", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TaskFacets> getFacets() {
+        return ResponseEntity.ok(taskService.findTaskFacets());
+    }
+
+    /**
+     * Searches tasks by their title and problem, most relevant first. The cursor of the following page is sent
+     * in the {@value #NEXT_CURSOR_HEADER} header.
+     *
+     * @param q      Full-text query in web search syntax.
+     * @param type   Optional parameter to filter tasks by type.
+     * @param status Optional parameter to filter tasks by status.
+     * @param limit  Optional maximal number of tasks in the page.
+     * @param after  Optional cursor of the last task of the previous page.
+     * @return ResponseEntity containing a list of TaskDTOs.
+     */
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Iterable<TaskReadUpdate>> search(@RequestParam String q,
+                                                           @RequestParam(required = false) TaskType type,
+                                                           @RequestParam(required = false) TaskStatus status,
+                                                           @RequestParam(required = false) Integer limit,
+                                                           @RequestParam(required = false) String after) {
+        final int pageSize = Math.min(Math.max(Optional.ofNullable(limit).orElse(DEFAULT_PAGE_SIZE), 1), MAX_PAGE_SIZE);
+        final KeysetPage<TaskReadUpdate> page = taskService.search(q, type, status, TaskSearchCursor.decode(after), pageSize);
+        final HttpHeaders headers = new HttpHeaders();
+        Optional.ofNullable(page.nextCursor()).ifPresent(cursor -> headers.set(NEXT_CURSOR_HEADER, cursor));
+        return ResponseEntity.ok().headers(headers).body(page.items());
     }
 
     /**
@@ -97,14 +292,28 @@ public class TaskController {
     public ResponseEntity<Iterable<TaskReadUpdate>> getAllTakenByTaskStatusAndExpiredStatus(@RequestParam(required = false) TaskStatus taskStatus,
                                                                                             @RequestParam boolean expired, Authentication auth) {
         User user = ((UserDetails) auth.getPrincipal()).getUser();
-        List<Task> tasks = Optional.ofNullable(taskStatus)
+        List<TaskReadUpdate> taskReadUpdates = Optional.ofNullable(taskStatus)
                 .map(t -> taskService.findAllTakenByUserIdAndStatusAndDeadlineStatus(user.getId(), t, expired))
                 .orElseGet(() -> taskService.findAllTakenByUserIdAndDeadlineStatus(user.getId(), expired));
-
-        List<TaskReadUpdate> taskReadUpdates = tasks.stream().map(mapper::toTaskReadUpdate).toList();
         return ResponseEntity.ok(taskReadUpdates);
     }
 
+    /**
+     * Streams all tasks taken by the authenticated user as newline delimited JSON, one task per line.
+     *
+     * @param taskStatus Optional parameter to filter tasks by status.
+     * @param expired    Whether to include expired tasks.
+     * @param auth       Authentication object containing user details.
+     * @return ResponseEntity streaming the tasks.
+     */
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @GetMapping(value = "/taken", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllTakenByTaskStatusAndExpiredStatus(@RequestParam(required = false) TaskStatus taskStatus,
+                                                                                            @RequestParam boolean expired, Authentication auth) {
+        final Integer userId = ((UserDetails) auth.getPrincipal()).getUser().getId();
+        return ndjsonWriter.<TaskReadUpdate>stream(consumer -> taskService.streamAllTakenByUserId(userId, taskStatus, expired, consumer));
+    }
+
     /**
      * Retrieves all tasks posted by the authenticated user based on status and expiration.
      *
@@ -118,13 +327,28 @@ public class TaskController {
     public ResponseEntity<Iterable<TaskReadUpdate>> getAllPostedByTaskStatusAndExpiredStatus(@RequestParam(required = false) TaskStatus taskStatus, @RequestParam boolean expired, Authentication auth) {
         User user = ((UserDetails) auth.getPrincipal()).getUser();
 
-        List<Task> tasks = Optional.ofNullable(taskStatus)
+        List<TaskReadUpdate> taskReadUpdates = Optional.ofNullable(taskStatus)
                 .map(t -> taskService.findAllPostedByUserIdAndStatusAndExpiredStatus(user.getId(), t, expired))
-                .orElseGet(() -> taskService.findAllPostedByUserIdAndStatusAndExpiredStatus(user.getId(), taskStatus, expired));
-        List<TaskReadUpdate> taskReadUpdates = tasks.stream().map(mapper::toTaskReadUpdate).toList();
+                .orElseGet(() -> taskService.findAllPostedByUserIdAndExpiredStatus(user.getId(), expired));
         return ResponseEntity.ok(taskReadUpdates);
     }
 
+    /**
+     * Streams all tasks posted by the authenticated user as newline delimited JSON, one task per line.
+     *
+     * @param taskStatus Optional parameter to filter tasks by status.
+     * @param expired    Whether to include expired tasks.
+     * @param auth       Authentication object containing user details.
+     * @return ResponseEntity streaming the tasks.
+     */
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @GetMapping(value = "/posted", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllPostedByTaskStatusAndExpiredStatus(@RequestParam(required = false) TaskStatus taskStatus,
+                                                                                             @RequestParam boolean expired, Authentication auth) {
+        final Integer userId = ((UserDetails) auth.getPrincipal()).getUser().getId();
+        return ndjsonWriter.<TaskReadUpdate>stream(consumer -> taskService.streamAllPostedByUserId(userId, taskStatus, expired, consumer));
+    }
+
     /**
      * Updates details of a posted task.
      *
@@ -1,14 +1,21 @@
 package freelanceplatform.controllers;
 
+import freelanceplatform.controllers.util.BlobWriter;
+import freelanceplatform.controllers.util.NdjsonWriter;
 import freelanceplatform.controllers.util.RestUtils;
 import freelanceplatform.dto.Mapper;
 import freelanceplatform.dto.creation.UserCreation;
 import freelanceplatform.dto.readUpdate.UserReadUpdate;
+import freelanceplatform.dto.snapshot.UserSnapshot;
 import freelanceplatform.exceptions.NotFoundException;
 import freelanceplatform.model.Resume;
 import freelanceplatform.model.User;
 import freelanceplatform.model.security.UserDetails;
 import freelanceplatform.services.UserService;
+import freelanceplatform.services.blob.BlobContent;
+import freelanceplatform.services.versions.ResourceVersions;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
@@ -18,9 +25,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -38,18 +48,25 @@ public class UserController {
 
     private final UserService userService;
     private final Mapper mapper;
+    private final NdjsonWriter ndjsonWriter;
+    private final ResourceVersions resourceVersions;
+    private final BlobWriter blobWriter;
 
     /**
-     * Retrieves a user by their ID.
+     * Retrieves a user by their ID. Answers 304 if the user did not change since the version given in If-None-Match.
      *
-     * @param id the ID of the user
+     * @param id      the ID of the user
+     * @param request the current request
      * @return the ResponseEntity with the user data or 404 if not found
      */
     @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<UserReadUpdate> getUserById(@PathVariable Integer id) {
-        return userService.findById(id)
-                .map(user -> ResponseEntity.ok(mapper.toReadUser(user)))
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<UserReadUpdate> getUserById(@PathVariable Integer id, WebRequest request) {
+        // the tag is read before the user, so it never claims a newer version than the one returned
+        final String tag = resourceVersions.userTag(id);
+        final Optional<UserSnapshot> user = userService.findSnapshotById(id);
+        if (user.isEmpty()) return ResponseEntity.notFound().build();
+        if (request.checkNotModified(tag)) return null;
+        return ResponseEntity.ok(mapper.toReadUser(user.get()));
     }
 
     /**
@@ -81,6 +98,16 @@ public class UserController {
         return userReadUpdates;
     }
 
+    /**
+     * Streams all users as newline delimited JSON, one user per line.
+     *
+     * @return response streaming the user DTOs
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllUsers() {
+        return ndjsonWriter.stream(userService::streamAll);
+    }
+
     /**
      * Signs up a new user.
      *
@@ -190,7 +217,27 @@ public class UserController {
     }
 
     /**
-     * Saves the resume of the current authenticated user.
+     * Retrieves the content of the resume of the current authenticated user as a file download.
+     * Supports single byte ranges and answers 304 if the content did not change since the ETag given in
+     * If-None-Match.
+     *
+     * @param auth     the authentication object
+     * @param request  the current request
+     * @param response the response the content is written to
+     * @throws IOException if the content cannot be read or written
+     */
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @GetMapping("/myResume/content")
+    public void getResumeContent(Authentication auth, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        User user = ((UserDetails) auth.getPrincipal()).getUser();
+        Resume resume = userService.getUsersResume(user);
+        try (BlobContent content = userService.openResumeContent(resume)) {
+            blobWriter.write(content, resume.getContentHash(), resume.getContentType(), resume.getFilename(), request, response);
+        }
+    }
+
+    /**
+     * Saves the resume of the current authenticated user. The file is streamed to the blob store.
      *
      * @param filename the filename of the resume
      * @param file     the resume file
@@ -204,7 +251,9 @@ public class UserController {
                                            Authentication auth) throws IOException {
         User user = ((UserDetails) auth.getPrincipal()).getUser();
 
-        userService.saveResume(filename, file.getBytes(), user);
+        try (InputStream content = file.getInputStream()) {
+            userService.saveResume(filename, file.getContentType(), content, user);
+        }
 
         final HttpHeaders headers = RestUtils.createLocationHeaderFromCurrentUri("/current");
         return new ResponseEntity<>(headers, HttpStatus.CREATED);
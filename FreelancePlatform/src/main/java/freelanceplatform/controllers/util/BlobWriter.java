@@ -0,0 +1,124 @@
+package freelanceplatform.controllers.util;
+
+import freelanceplatform.services.blob.BlobContent;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Writes blob contents to the response as file downloads, whole or as the single byte range asked for in
+ * the Range header.
+ *
+ * <p>When the content is a local file and the server supports it, the file is handed to Tomcat, which sends
+ * it with {@link java.nio.channels.FileChannel#transferTo} straight to the socket once the handler returns.
+ * Otherwise the content is transferred to the response stream. The key of the blob, which changes with its
+ * content, serves as a strong ETag.
+ */
+@Component
+public class BlobWriter {
+
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /**
+     * Writes a content to the response.
+     *
+     * @param content     the content to write
+     * @param key         key of the content in the blob store
+     * @param contentType media type of the content, or {@code null} if unknown
+     * @param filename    name the client saves the content under
+     * @param request     the current request
+     * @param response    the response to write to
+     * @throws IOException if the content cannot be read or the response written
+     */
+    public void write(BlobContent content, String key, String contentType, String filename,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (new ServletWebRequest(request, response).checkNotModified(key)) return;
+        final long size = content.size();
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        long start = 0;
+        long end = size - 1;
+        final HttpRange range = range(request, key);
+        if (range != null) {
+            start = range.getRangeStart(size);
+            end = range.getRangeEnd(size);
+            if (start >= size || start > end) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+        final long length = end - start + 1;
+        response.setContentType(mediaType(contentType).toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, attachment(filename));
+        response.setContentLengthLong(length);
+        if (HttpMethod.HEAD.matches(request.getMethod()) || length == 0) return;
+        final Optional<Path> file = content.file();
+        if (file.isPresent() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.get().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        content.transferTo(start, length, Channels.newChannel(response.getOutputStream()));
+    }
+
+    /**
+     * Returns the range asked for, or {@code null} to send the whole content: when there is no valid Range
+     * header, when it asks for several ranges or when If-Range names another version of the content.
+     */
+    private static HttpRange range(HttpServletRequest request, String key) {
+        final String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) return null;
+        final String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals("\"" + key + "\"")) return null;
+        final List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(header);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return ranges.size() == 1 ? ranges.get(0) : null;
+    }
+
+    /**
+     * Names the file plainly when the name is ASCII, in the RFC 5987 encoding, which also covers other
+     * characters, otherwise.
+     */
+    private static String attachment(String filename) {
+        final ContentDisposition.Builder builder = ContentDisposition.attachment();
+        if (StandardCharsets.US_ASCII.newEncoder().canEncode(filename)) {
+            builder.filename(filename);
+        } else {
+            builder.filename(filename, StandardCharsets.UTF_8);
+        }
+        return builder.build().toString();
+    }
+
+    private static MediaType mediaType(String contentType) {
+        if (contentType == null) return MediaType.APPLICATION_OCTET_STREAM;
+        try {
+            return MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+}
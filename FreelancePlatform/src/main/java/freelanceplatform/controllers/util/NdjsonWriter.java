@@ -0,0 +1,61 @@
+package freelanceplatform.controllers.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Writes sequences of objects as newline delimited JSON straight to the response, one object at a time,
+ * so neither the whole result nor its serialized form is ever held in memory.
+ */
+@Component
+public class NdjsonWriter {
+
+    private final ObjectWriter writer;
+
+    public NdjsonWriter(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writer()
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Creates a streaming response. The source is called once the response is being written, outside
+     * of the request thread, and has to pass every element to the given consumer.
+     *
+     * @param source producer of the elements, e.g. a transactional service method iterating a database cursor
+     * @param <T>    type of the elements
+     * @return the response with an NDJSON body
+     */
+    public <T> ResponseEntity<StreamingResponseBody> stream(Consumer<Consumer<T>> source) {
+        final StreamingResponseBody body = outputStream -> {
+            final AtomicBoolean empty = new AtomicBoolean(true);
+            try (SequenceWriter sequence = writer.writeValues(outputStream)) {
+                source.accept(element -> {
+                    try {
+                        sequence.write(element);
+                        empty.set(false);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            if (!empty.get()) outputStream.write('\n');
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+}
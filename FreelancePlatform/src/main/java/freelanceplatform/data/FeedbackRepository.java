@@ -1,11 +1,19 @@
 package freelanceplatform.data;
 
+import freelanceplatform.dto.readUpdate.FeedbackReadUpdate;
+import freelanceplatform.dto.snapshot.FeedbackSnapshot;
 import freelanceplatform.model.Feedback;
 import freelanceplatform.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface FeedbackRepository extends CrudRepository<Feedback, Integer> {
@@ -17,6 +25,26 @@ public interface FeedbackRepository extends CrudRepository<Feedback, Integer> {
      */
     List<Feedback> findAll();
 
+    /**
+     * Finds the snapshot of the {@link Feedback} with the given id, reading only the columns it holds.
+     *
+     * @param id the id of the feedback
+     * @return the snapshot or an empty {@link Optional} if there is no such feedback
+     */
+    @Query("select new freelanceplatform.dto.snapshot.FeedbackSnapshot(f.id, f.sender.id, f.receiver.id, f.rating, f.comment) " +
+            "from Feedback f where f.id = :id")
+    Optional<FeedbackSnapshot> findSnapshotById(Integer id);
+
+    /**
+     * Streams all {@link Feedback} entities ordered by id.
+     *
+     * @return a stream of feedbacks, to be consumed and closed within a transaction
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = Streaming.FETCH_SIZE))
+    @Query("select new freelanceplatform.dto.readUpdate.FeedbackReadUpdate(f.id, f.sender.id, f.receiver.id, f.rating, f.comment) " +
+            "from Feedback f order by f.id")
+    Stream<FeedbackReadUpdate> streamAll();
+
     /**
      * Finds all {@link Feedback} entities received by a specific user.
      *
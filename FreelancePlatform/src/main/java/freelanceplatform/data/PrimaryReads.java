@@ -0,0 +1,75 @@
+package freelanceplatform.data;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Marks reads that must see the primary database even inside a read-only transaction, such as loads whose
+ * result is shared through a cache or kept in an in-memory read model. A value read from a replica that is
+ * behind would otherwise be served for as long as the cache keeps it instead of for the replication lag.
+ *
+ * <p>The choice of database is made when a transaction takes its connection, on its first statement, so the
+ * mark has to be set before that. Reads marked inside a transaction that already read from a replica stay on
+ * that replica. Without replicas the mark has no effect.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> REQUESTED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    /**
+     * Runs reads against the primary.
+     *
+     * @param reads the reads
+     * @param <T>   type of the result
+     * @return the result of the reads
+     * @throws Exception if the reads fail
+     */
+    public static <T> T call(Callable<T> reads) throws Exception {
+        final Boolean outer = REQUESTED.get();
+        REQUESTED.set(Boolean.TRUE);
+        try {
+            return reads.call();
+        } finally {
+            if (outer == null) REQUESTED.remove();
+        }
+    }
+
+    /**
+     * Runs reads against the primary.
+     *
+     * @param reads the reads
+     * @param <T>   type of the result
+     * @return the result of the reads
+     */
+    public static <T> T get(Supplier<T> reads) {
+        final Boolean outer = REQUESTED.get();
+        REQUESTED.set(Boolean.TRUE);
+        try {
+            return reads.get();
+        } finally {
+            if (outer == null) REQUESTED.remove();
+        }
+    }
+
+    /**
+     * Runs reads against the primary.
+     *
+     * @param reads the reads
+     */
+    public static void run(Runnable reads) {
+        get(() -> {
+            reads.run();
+            return null;
+        });
+    }
+
+    /**
+     * @return whether the current thread is running reads marked for the primary
+     */
+    public static boolean isRequested() {
+        return REQUESTED.get() != null;
+    }
+}
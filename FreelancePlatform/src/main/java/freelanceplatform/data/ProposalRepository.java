@@ -1,12 +1,19 @@
 package freelanceplatform.data;
 
+import freelanceplatform.dto.readUpdate.ProposalReadUpdate;
+import freelanceplatform.dto.snapshot.ProposalSnapshot;
 import freelanceplatform.model.Proposal;
 import freelanceplatform.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProposalRepository extends CrudRepository<Proposal, Integer> {
@@ -18,6 +25,26 @@ public interface ProposalRepository extends CrudRepository<Proposal, Integer> {
      */
     List<Proposal> findAll();
 
+    /**
+     * Finds the snapshot of the {@link Proposal} with the given id, reading only the columns it holds.
+     *
+     * @param id the id of the proposal
+     * @return the snapshot or an empty {@link Optional} if there is no such proposal
+     */
+    @Query("select new freelanceplatform.dto.snapshot.ProposalSnapshot(p.id, p.freelancer.id, p.task.id) " +
+            "from Proposal p where p.id = :id")
+    Optional<ProposalSnapshot> findSnapshotById(Integer id);
+
+    /**
+     * Streams all {@link Proposal} entities ordered by id.
+     *
+     * @return a stream of proposals, to be consumed and closed within a transaction
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = Streaming.FETCH_SIZE))
+    @Query("select new freelanceplatform.dto.readUpdate.ProposalReadUpdate(p.id, p.freelancer.id, p.task.id) " +
+            "from Proposal p order by p.id")
+    Stream<ProposalReadUpdate> streamAll();
+
     /**
      * Finds all {@link Proposal} entities associated with a specific freelancer.
      *
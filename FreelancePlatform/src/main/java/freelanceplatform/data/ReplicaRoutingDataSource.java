@@ -0,0 +1,207 @@
+package freelanceplatform.data;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * DataSource sending read-only transactions to replicas of the primary database and everything else to the
+ * primary.
+ *
+ * <p>The target is chosen when a connection is requested, from the read-only flag of the current transaction,
+ * so it must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} that
+ * requests the connection only once the transaction has begun. Read-only transactions are spread round-robin
+ * over the replicas whose replication lag was within the bound at the last check. When none is, they fall
+ * back to the primary. Reads marked with {@link PrimaryReads} always use the primary.
+ *
+ * <p>A session that committed a write reads from the primary for the lag bound plus one check interval, so it
+ * sees its own writes even on a replica that just fell behind. Sessions are kept in {@link WriterSessions}
+ * shared by all instances, so the next request of the session may land on any of them.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    /**
+     * Seconds the replica is behind the primary, {@code 0} if it replayed everything it received or is not
+     * a replica at all.
+     */
+    static final String LAG_QUERY = """
+            SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END""";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final Supplier<String> session;
+    private final WriterSessions writers;
+    private final Duration stickiness;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * @param primary          the primary database
+     * @param replicas         replicas of the primary by name
+     * @param maxLag           largest lag of a replica still used
+     * @param lagCheckInterval time between two lag checks
+     * @param session          returns the session of the current thread or {@code null} if there is none
+     * @param writers          sessions that recently committed a write
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration maxLag,
+                                    Duration lagCheckInterval, Supplier<String> session, WriterSessions writers) {
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream().map(entry -> new Replica(entry.getKey(), entry.getValue())).toList();
+        this.maxLag = maxLag;
+        this.session = session;
+        this.writers = writers;
+        this.stickiness = maxLag.plus(lagCheckInterval);
+    }
+
+    /**
+     * Checks whether the current transaction reads from a replica, i.e. whether what it did not find may
+     * still exist on the primary.
+     *
+     * @return true if the connection of the current transaction was taken from a replica
+     */
+    public static boolean isCurrentTransactionOnReplica() {
+        return TransactionSynchronizationManager.hasResource(ReplicaRoutingDataSource.class);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return target().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return target().getConnection(username, password);
+    }
+
+    /**
+     * Makes the current session read from the primary for a while. Called once it committed a write.
+     */
+    public void recordWrite() {
+        final String current = session.get();
+        if (current != null) writers.add(current, stickiness);
+    }
+
+    /**
+     * Measures the lag of each replica and takes the replicas beyond the bound, or failing to answer, out of
+     * use until the next check.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.lag-check-interval:PT1S}")
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            final boolean wasUsable = usable(replica);
+            try {
+                replica.lag = measureLag(replica.dataSource);
+            } catch (SQLException | RuntimeException e) {
+                replica.lag = null;
+                if (wasUsable) log.warn("Lag of replica {} could not be checked, reading from the others", replica.name, e);
+                continue;
+            }
+            if (wasUsable && !usable(replica)) {
+                log.warn("Replica {} is {} behind, reading from the others", replica.name, replica.lag);
+            } else if (!wasUsable && usable(replica)) {
+                log.info("Reading from replica {}", replica.name);
+            }
+        }
+    }
+
+    /**
+     * Measures how far a replica is behind the primary.
+     *
+     * @param replica the replica
+     * @return the lag or {@code null} if the replica cannot tell
+     * @throws SQLException if the replica cannot be queried
+     */
+    protected Duration measureLag(DataSource replica) throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(LAG_QUERY)) {
+            if (!result.next()) return null;
+            final double seconds = result.getDouble(1);
+            return result.wasNull() ? null : Duration.ofNanos((long) (seconds * 1e9));
+        }
+    }
+
+    private DataSource target() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PrimaryReads.isRequested()
+                || replicas.isEmpty()) {
+            return primary;
+        }
+        final String current = session.get();
+        if (current != null && writers.contains(current)) return primary;
+        final int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            final Replica replica = replicas.get((start + i) % replicas.size());
+            if (usable(replica)) {
+                markTransactionOnReplica();
+                return replica.dataSource;
+            }
+        }
+        return primary;
+    }
+
+    private static void markTransactionOnReplica() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(ReplicaRoutingDataSource.class)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(ReplicaRoutingDataSource.class, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ReplicaRoutingDataSource.class);
+            }
+        });
+    }
+
+    private boolean usable(Replica replica) {
+        final Duration lag = replica.lag;
+        return lag != null && lag.compareTo(maxLag) <= 0;
+    }
+
+    /**
+     * Sessions that committed a write, each kept for a given time.
+     */
+    public interface WriterSessions {
+
+        /**
+         * Adds a session or extends the time it is kept.
+         *
+         * @param session    the session
+         * @param timeToLive how long the session is kept
+         */
+        void add(String session, Duration timeToLive);
+
+        /**
+         * @param session the session
+         * @return whether the session is kept
+         */
+        boolean contains(String session);
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        /** Lag at the last check, {@code null} before the first check and after a failed one. */
+        private volatile Duration lag;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package freelanceplatform.data;
 
 import freelanceplatform.model.Resume;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.repository.CrudRepository;
 
 import java.util.Optional;
@@ -13,5 +14,6 @@ public interface ResumeRepository extends CrudRepository<Resume, Integer> {
      * @param id the ID of the user associated with the resume
      * @return an {@link Optional} containing the resume if found, or an empty {@link Optional} if no resume is found for the given user ID
      */
+    @EntityGraph(attributePaths = "user")
     Optional<Resume> findByUserId(Integer id);
 }
@@ -1,7 +1,10 @@
 package freelanceplatform.data;
 
+import freelanceplatform.dto.snapshot.SolutionSnapshot;
 import freelanceplatform.model.Solution;
 import freelanceplatform.model.Task;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
@@ -24,6 +27,18 @@ public interface SolutionRepository extends CrudRepository<Solution, Integer> {
      *
      * @return a list of all {@link Solution} entities
      */
+    @EntityGraph(attributePaths = "task")
     List<Solution> findAll();
 
+    /**
+     * Finds the snapshot of the {@link Solution} with the given id, reading only the columns it holds.
+     * The task is owned by the task side of the association, so a solution no task points to is found as well.
+     *
+     * @param id the id of the solution
+     * @return the snapshot or an empty {@link Optional} if there is no such solution
+     */
+    @Query("select new freelanceplatform.dto.snapshot.SolutionSnapshot(s.id, t.id, s.link, s.description) " +
+            "from Solution s left join s.task t where s.id = :id")
+    Optional<SolutionSnapshot> findSnapshotById(Integer id);
+
 }
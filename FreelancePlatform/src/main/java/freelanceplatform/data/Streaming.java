@@ -0,0 +1,15 @@
+package freelanceplatform.data;
+
+/**
+ * Settings shared by repository methods returning {@link java.util.stream.Stream}s.
+ */
+public final class Streaming {
+
+    /**
+     * Number of rows fetched from the database per round trip while a stream is consumed.
+     */
+    public static final String FETCH_SIZE = "500";
+
+    private Streaming() {
+    }
+}
@@ -0,0 +1,14 @@
+package freelanceplatform.data;
+
+import freelanceplatform.model.TaskStatus;
+import freelanceplatform.model.TaskType;
+
+/**
+ * Number of tasks with the given type and status.
+ *
+ * @param type   type of the tasks
+ * @param status status of the tasks
+ * @param count  number of the tasks
+ */
+public record TaskFacetCount(TaskType type, TaskStatus status, Long count) {
+}
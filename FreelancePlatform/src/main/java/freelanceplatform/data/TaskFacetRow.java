@@ -0,0 +1,14 @@
+package freelanceplatform.data;
+
+import freelanceplatform.model.TaskStatus;
+import freelanceplatform.model.TaskType;
+
+/**
+ * Properties of a task that facets are counted by.
+ *
+ * @param id     id of the task
+ * @param type   type of the task
+ * @param status status of the task
+ */
+public record TaskFacetRow(Integer id, TaskType type, TaskStatus status) {
+}
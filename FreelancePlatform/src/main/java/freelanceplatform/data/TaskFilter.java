@@ -0,0 +1,39 @@
+package freelanceplatform.data;
+
+import freelanceplatform.model.TaskStatus;
+import freelanceplatform.model.TaskType;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Conditions tasks are filtered by. Conditions that are {@code null} or empty are not applied.
+ *
+ * @param types          types the task has to have one of
+ * @param status         status of the task
+ * @param minPayment     lowest payment of the task, inclusive
+ * @param maxPayment     highest payment of the task, inclusive
+ * @param deadlineAfter  time the deadline of the task has to be after
+ * @param deadlineBefore time the deadline of the task has to be before
+ * @param customerId     id of the customer who posted the task
+ * @param freelancerId   id of the freelancer who took the task
+ */
+@Builder
+public record TaskFilter(Set<TaskType> types, TaskStatus status, Double minPayment, Double maxPayment,
+                         LocalDateTime deadlineAfter, LocalDateTime deadlineBefore,
+                         Integer customerId, Integer freelancerId) {
+
+    /**
+     * Creates a filter selecting the task board, i.e. unassigned tasks.
+     *
+     * @param type type to restrict the board to or {@code null} for all types
+     * @return the filter
+     */
+    public static TaskFilter board(TaskType type) {
+        return TaskFilter.builder()
+                .types(type == null ? null : Set.of(type))
+                .status(TaskStatus.UNASSIGNED)
+                .build();
+    }
+}
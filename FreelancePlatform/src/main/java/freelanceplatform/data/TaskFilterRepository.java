@@ -0,0 +1,34 @@
+package freelanceplatform.data;
+
+import freelanceplatform.dto.paging.TaskBoardCursor;
+import freelanceplatform.dto.readUpdate.TaskReadUpdate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Queries tasks by any combination of the conditions of a {@link TaskFilter}. Every combination is compiled
+ * into a single statement, ordered by (posted date, id) so that it can be paged by seeking to a position.
+ */
+public interface TaskFilterRepository {
+
+    /**
+     * Finds tasks matching the filter that follow the given position in the requested direction.
+     *
+     * @param filter     the conditions
+     * @param descending whether to read from newer to older tasks
+     * @param position   position to seek from, exclusive, or {@code null} to read from the start
+     * @param limit      maximal number of tasks to read or {@code null} to read all of them
+     * @return tasks in reading order
+     */
+    List<TaskReadUpdate> findFiltered(TaskFilter filter, boolean descending, TaskBoardCursor position, Integer limit);
+
+    /**
+     * Streams all tasks matching the filter.
+     *
+     * @param filter     the conditions
+     * @param descending whether to read from newer to older tasks
+     * @return a stream of tasks, to be consumed and closed within a transaction
+     */
+    Stream<TaskReadUpdate> streamFiltered(TaskFilter filter, boolean descending);
+}
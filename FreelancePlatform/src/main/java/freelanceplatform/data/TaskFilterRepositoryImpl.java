@@ -0,0 +1,75 @@
+package freelanceplatform.data;
+
+import freelanceplatform.dto.paging.TaskBoardCursor;
+import freelanceplatform.dto.readUpdate.TaskReadUpdate;
+import freelanceplatform.model.Task;
+import freelanceplatform.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Criteria API implementation of {@link TaskFilterRepository}.
+ */
+public class TaskFilterRepositoryImpl implements TaskFilterRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskReadUpdate> findFiltered(TaskFilter filter, boolean descending, TaskBoardCursor position, Integer limit) {
+        final TypedQuery<TaskReadUpdate> query = entityManager.createQuery(select(filter, descending, position));
+        if (limit != null) query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    @Override
+    public Stream<TaskReadUpdate> streamFiltered(TaskFilter filter, boolean descending) {
+        return entityManager.createQuery(select(filter, descending, null))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, Integer.valueOf(Streaming.FETCH_SIZE))
+                .getResultStream();
+    }
+
+    private CriteriaQuery<TaskReadUpdate> select(TaskFilter filter, boolean descending, TaskBoardCursor position) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<TaskReadUpdate> query = cb.createQuery(TaskReadUpdate.class);
+        final Root<Task> task = query.from(Task.class);
+        final Join<Task, User> customer = task.join("customer");
+        final Join<Task, User> freelancer = task.join("freelancer", JoinType.LEFT);
+        final Path<LocalDateTime> postedDate = task.get("postedDate");
+        final Path<Integer> id = task.get("id");
+
+        query.select(cb.construct(TaskReadUpdate.class, id, customer.get("username"), freelancer.get("username"),
+                task.get("title"), task.get("problem"), task.get("deadline"), task.get("payment"), task.get("type"),
+                task.get("status"), postedDate));
+
+        final List<Predicate> where = new ArrayList<>();
+        if (filter.types() != null && !filter.types().isEmpty()) where.add(task.get("type").in(filter.types()));
+        if (filter.status() != null) where.add(cb.equal(task.get("status"), filter.status()));
+        if (filter.minPayment() != null) where.add(cb.greaterThanOrEqualTo(task.get("payment"), filter.minPayment()));
+        if (filter.maxPayment() != null) where.add(cb.lessThanOrEqualTo(task.get("payment"), filter.maxPayment()));
+        if (filter.deadlineAfter() != null) where.add(cb.greaterThan(task.get("deadline"), filter.deadlineAfter()));
+        if (filter.deadlineBefore() != null) where.add(cb.lessThan(task.get("deadline"), filter.deadlineBefore()));
+        if (filter.customerId() != null) where.add(cb.equal(task.get("customer").get("id"), filter.customerId()));
+        if (filter.freelancerId() != null) where.add(cb.equal(task.get("freelancer").get("id"), filter.freelancerId()));
+        if (position != null) {
+            where.add(descending
+                    ? cb.or(cb.lessThan(postedDate, position.postedDate()),
+                            cb.and(cb.equal(postedDate, position.postedDate()), cb.lessThan(id, position.id())))
+                    : cb.or(cb.greaterThan(postedDate, position.postedDate()),
+                            cb.and(cb.equal(postedDate, position.postedDate()), cb.greaterThan(id, position.id()))));
+        }
+        query.where(where.toArray(Predicate[]::new));
+        query.orderBy(descending
+                ? List.of(cb.desc(postedDate), cb.desc(id))
+                : List.of(cb.asc(postedDate), cb.asc(id)));
+        return query;
+    }
+}
@@ -0,0 +1,10 @@
+package freelanceplatform.data;
+
+/**
+ * Users taking part in a task.
+ *
+ * @param customerId   id of the customer who posted the task
+ * @param freelancerId id of the freelancer assigned to the task or {@code null}
+ */
+public record TaskParticipants(Integer customerId, Integer freelancerId) {
+}
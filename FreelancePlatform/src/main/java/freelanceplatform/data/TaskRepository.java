@@ -1,138 +1,170 @@
 package freelanceplatform.data;
 
+import freelanceplatform.dto.readUpdate.TaskReadUpdate;
+import freelanceplatform.dto.snapshot.TaskSnapshot;
 import freelanceplatform.model.Task;
 import freelanceplatform.model.TaskStatus;
 import freelanceplatform.model.TaskType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends CrudRepository<Task, Integer> {
+public interface TaskRepository extends CrudRepository<Task, Integer>, TaskFilterRepository {
 
-    //TASK BOARD
     /**
-     * Finds all tasks with the given status, ordered by the posted date from newest to oldest.
-     *
-     * @param status the status of the tasks to retrieve
-     * @return a list of tasks with the given status, ordered by posted date from newest to oldest
+     * Select clause building {@link TaskReadUpdate} rows directly, so list queries fetch only the columns
+     * they return in a single statement instead of hydrating tasks together with their users and solutions.
+     */
+    String TASK_READ_UPDATE = "select new freelanceplatform.dto.readUpdate.TaskReadUpdate(" +
+            "t.id, c.username, f.username, t.title, t.problem, t.deadline, t.payment, t.type, t.status, t.postedDate) " +
+            "from Task t join t.customer c left join t.freelancer f ";
+
+    /**
+     * Select clause building {@link TaskSnapshot} rows.
      */
-    @Query(value = "select t from Task t where t.status = :status order by t.postedDate desc")
-    List<Task> findAllByStatusFromNewest(TaskStatus status);
+    String TASK_SNAPSHOT = "select new freelanceplatform.dto.snapshot.TaskSnapshot(t.id, c.id, c.username, f.id, f.username, " +
+            "t.title, t.problem, t.deadline, t.payment, t.type, t.status, t.postedDate) " +
+            "from Task t left join t.customer c left join t.freelancer f ";
 
     /**
-     * Finds all tasks with the given status, ordered by the posted date from oldest to newest.
+     * Finds the snapshot of the task with the given id, reading only the columns it holds.
      *
-     * @param status the status of the tasks to retrieve
-     * @return a list of tasks with the given status, ordered by posted date from oldest to newest
+     * @param id the id of the task
+     * @return the snapshot or an empty {@link Optional} if there is no such task
      */
-    @Query(value = "select t from Task t where t.status = :status order by t.postedDate")
-    List<Task> findAllByStatusFromOldest(TaskStatus status);
+    @Query(value = TASK_SNAPSHOT + "where t.id = :id")
+    Optional<TaskSnapshot> findSnapshotById(Integer id);
 
     /**
-     * Finds all tasks with the given type and status, ordered by the posted date from newest to oldest.
+     * Increments the change version of a task. The row stays locked until the end of the transaction, so the
+     * versions of concurrent changes of a task follow the order of their commits.
      *
-     * @param type   the type of the tasks to retrieve
-     * @param status the status of the tasks to retrieve
-     * @return a list of tasks with the given type and status, ordered by posted date from newest to oldest
+     * @param id the id of the task
+     * @return the new change version or an empty {@link Optional} if there is no such task
      */
-    @Query(value = "select t from Task t where t.type = :type and t.status = :status order by t.postedDate desc")
-    List<Task> findAllByTypeAndStatusFromNewest(TaskType type, TaskStatus status);
+    @Query(nativeQuery = true, value = "UPDATE task SET change_version = change_version + 1 WHERE id = :id RETURNING change_version")
+    Optional<Long> incrementChangeVersion(Integer id);
 
     /**
-     * Finds all tasks with the given type and status, ordered by the posted date from oldest to newest.
+     * Finds the snapshots of the tasks with the given ids, reading only the columns they hold.
      *
-     * @param type   the type of the tasks to retrieve
-     * @param status the status of the tasks to retrieve
-     * @return a list of tasks with the given type and status, ordered by posted date from oldest to newest
+     * @param ids the ids of the tasks
+     * @return the snapshots in no particular order, without tasks that do not exist
      */
-    @Query(value = "select t from Task t where t.type = :type and t.status = :status order by t.postedDate")
-    List<Task> findAllByTypeAndStatusFromOldest(TaskType type, TaskStatus status);
+    @Query(value = TASK_SNAPSHOT + "where t.id in :ids")
+    List<TaskSnapshot> findSnapshotsByIdIn(Collection<Integer> ids);
 
-    //TAKEN TASKS
     /**
-     * Finds all tasks assigned to a freelancer that have not yet expired.
+     * Finds the ids of the most recently posted tasks with the given status, read from the status and posted
+     * date index alone.
      *
-     * @param freelancerId the ID of the freelancer
-     * @return a list of tasks assigned to the freelancer with deadlines that have not expired
+     * @param status the status of the tasks
+     * @param limit  maximal number of ids to retrieve
+     * @return the ids from the newest task
      */
-    @Query(value = "select t from Task t where t.freelancer.id = :freelancerId and t.deadline > CURRENT_TIMESTAMP")
-    List<Task> findAllTakenByFreelancerIdDeadlineNotExpired(Integer freelancerId);
+    @Query("select t.id from Task t where t.status = :status order by t.postedDate desc, t.id desc")
+    List<Integer> findRecentIdsByStatus(TaskStatus status, Limit limit);
 
     /**
-     * Finds all tasks assigned to a freelancer that have expired.
+     * Finds the customers and freelancers of the most recently created tasks, scanning the primary key index
+     * from its end.
      *
-     * @param freelancerId the ID of the freelancer
-     * @return a list of tasks assigned to the freelancer with deadlines that have expired
+     * @param limit maximal number of tasks to read
+     * @return the participants from the newest task
      */
-    @Query(value = "select t from Task t where t.freelancer.id = :freelancerId and t.deadline < CURRENT_TIMESTAMP")
-    List<Task> findAllTakenByFreelancerIdDeadlineExpired(Integer freelancerId);
+    @Query("select new freelanceplatform.data.TaskParticipants(t.customer.id, t.freelancer.id) from Task t order by t.id desc")
+    List<TaskParticipants> findLatestParticipants(Limit limit);
 
     /**
-     * Finds all tasks assigned to a freelancer with the given status that have not yet expired.
+     * Finds the stored type of the task with the given id. Pending changes of the task are not flushed first,
+     * so the result is the type the task had before the current transaction changed it.
      *
-     * @param freelancerId the ID of the freelancer
-     * @param taskStatus   the status of the tasks to retrieve
-     * @return a list of tasks assigned to the freelancer with the given status and deadlines that have not expired
+     * @param id the id of the task
+     * @return the type or an empty {@link Optional} if there is no such task or the current transaction
+     * inserted it and did not flush it yet
      */
-    @Query(value = "select t from Task t where t.freelancer.id = :freelancerId and t.status = :taskStatus and t.deadline > CURRENT_TIMESTAMP")
-    List<Task> findAllTakenByFreelancerIdAndStatusDeadlineNotExpired(Integer freelancerId, TaskStatus taskStatus);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query(value = "select t.type from Task t where t.id = :id")
+    Optional<TaskType> findTypeById(Integer id);
 
+    //FACETS
     /**
-     * Finds all tasks assigned to a freelancer with the given status that have expired.
+     * Streams the id, type and status of all tasks.
      *
-     * @param freelancerId the ID of the freelancer
-     * @param taskStatus   the status of the tasks to retrieve
-     * @return a list of tasks assigned to the freelancer with the given status and deadlines that have expired
+     * @return a stream of tasks, to be consumed and closed within a transaction
      */
-    @Query(value = "select t from Task t where t.freelancer.id = :freelancerId and t.status = :taskStatus and t.deadline > CURRENT_TIMESTAMP")
-    List<Task> findAllTakenByFreelancerIdAndStatusDeadlineExpired(Integer freelancerId, TaskStatus taskStatus);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = Streaming.FETCH_SIZE))
+    @Query(value = "select new freelanceplatform.data.TaskFacetRow(t.id, t.type, t.status) from Task t")
+    Stream<TaskFacetRow> streamAllFacets();
 
-    //POSTED TASKS
     /**
-     * Finds all tasks posted by a customer that have not yet expired.
+     * Counts tasks per type and status.
      *
-     * @param customerId the ID of the customer
-     * @return a list of tasks posted by the customer with deadlines that have not expired
+     * @return numbers of tasks for every present combination of type and status
      */
-    @Query(value = "select t from Task t where t.customer.id = :customerId and t.deadline > CURRENT_TIMESTAMP")
-    List<Task> findAllPostedByCustomerIdDeadlineNotExpired(Integer customerId);
+    @Query(value = "select new freelanceplatform.data.TaskFacetCount(t.type, t.status, count(t)) from Task t group by t.type, t.status")
+    List<TaskFacetCount> countByTypeAndStatus();
 
+    //SEARCH
     /**
-     * Finds all tasks posted by a customer that have expired.
+     * Finds tasks whose title or problem match the full-text query, ordered by (rank, id) from the most relevant.
+     * Title matches weigh more than problem matches. The search uses the generated {@code search_vector} column.
      *
-     * @param customerId the ID of the customer
-     * @return a list of tasks posted by the customer with deadlines that have expired
+     * @param query  the query in web search syntax
+     * @param type   the type of the tasks to retrieve or {@code null} for all types
+     * @param status the status of the tasks to retrieve or {@code null} for all statuses
+     * @param rank   the rank of the position to seek from or {@code null} to read from the start
+     * @param id     the id of the position to seek from or {@code null} to read from the start
+     * @param limit  maximal number of tasks to retrieve
+     * @return ids and ranks of the matching tasks
      */
-    @Query(value = "select t from Task t where t.customer.id = :customerId and t.deadline < CURRENT_TIMESTAMP")
-    List<Task> findAllPostedByCustomerIdDeadlineExpired(Integer customerId);
+    @Query(nativeQuery = true, value = "SELECT t.id AS id, ts_rank(t.search_vector, q.query) AS rank " +
+            "FROM task t, websearch_to_tsquery('english', :query) q(query) " +
+            "WHERE t.search_vector @@ q.query " +
+            "AND (CAST(:type AS varchar) IS NULL OR t.type = CAST(:type AS varchar)) " +
+            "AND (CAST(:status AS varchar) IS NULL OR t.status = CAST(:status AS varchar)) " +
+            "AND (CAST(:rank AS real) IS NULL OR ts_rank(t.search_vector, q.query) < CAST(:rank AS real) " +
+            "OR (ts_rank(t.search_vector, q.query) = CAST(:rank AS real) AND t.id < :id)) " +
+            "ORDER BY rank DESC, t.id DESC " +
+            "LIMIT :limit")
+    List<TaskSearchHit> search(String query, String type, String status, Float rank, Integer id, int limit);
 
     /**
-     * Finds all tasks posted by a customer with the given status that have not yet expired.
+     * Finds tasks with the given ids.
      *
-     * @param customerId the ID of the customer
-     * @param taskStatus the status of the tasks to retrieve
-     * @return a list of tasks posted by the customer with the given status and deadlines that have not expired
+     * @param ids the ids of the tasks to retrieve
+     * @return a list of tasks in no particular order
      */
-    @Query(value = "select t from Task t where t.customer.id = :customerId and t.status = :taskStatus and t.deadline > CURRENT_TIMESTAMP")
-    List<Task> findAllPostedByCustomerIdAndStatusDeadlineNotExpired(Integer customerId, TaskStatus taskStatus);
+    @Query(value = TASK_READ_UPDATE + "where t.id in :ids")
+    List<TaskReadUpdate> findAllByIdIn(Collection<Integer> ids);
 
     /**
-     * Finds all tasks posted by a customer with the given status that have expired.
+     * Finds a task together with its customer and freelancer, which every change of a task reads when
+     * it announces the new state.
      *
-     * @param customerId the ID of the customer
-     * @param taskStatus the status of the tasks to retrieve
-     * @return a list of tasks posted by the customer with the given status and deadlines that have expired
+     * @param id the id of the task
+     * @return the task or an empty {@link Optional} if there is no such task
      */
-    @Query(value = "select t from Task t where t.customer.id = :customerId and t.status = :taskStatus and t.deadline > CURRENT_TIMESTAMP")
-    List<Task> findAllPostedByCustomerIdAndStatusDeadlineExpired(Integer customerId, TaskStatus taskStatus);
+    @Override
+    @EntityGraph(Task.WITH_PARTIES)
+    Optional<Task> findById(Integer id);
 
     /**
      * Finds all tasks.
      *
-     * @return a list of all {@link Task} entities
+     * @return a list of all {@link Task} entities with their customers and freelancers
      */
+    @EntityGraph(Task.WITH_PARTIES)
     List<Task> findAll();
 }
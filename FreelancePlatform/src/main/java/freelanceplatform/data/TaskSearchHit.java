@@ -0,0 +1,11 @@
+package freelanceplatform.data;
+
+/**
+ * A task matching a full-text search together with its relevance rank.
+ */
+public interface TaskSearchHit {
+
+    Integer getId();
+
+    Float getRank();
+}
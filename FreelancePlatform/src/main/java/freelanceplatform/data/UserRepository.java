@@ -1,13 +1,21 @@
 package freelanceplatform.data;
 
 
+import freelanceplatform.dto.readUpdate.UserReadUpdate;
+import freelanceplatform.dto.snapshot.UserSnapshot;
 import freelanceplatform.model.Proposal;
 import freelanceplatform.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 
 @Repository
@@ -37,10 +45,40 @@ public interface UserRepository extends CrudRepository<User, Integer> {
      */
     Optional<User> getByUsername(String username);
 
+    /**
+     * Finds the snapshot of the user with the given id, reading only the columns it holds.
+     *
+     * @param id the id of the user
+     * @return the snapshot or an empty {@link Optional} if there is no such user
+     */
+    @Query("select new freelanceplatform.dto.snapshot.UserSnapshot(u.id, u.username, u.firstName, u.lastName, u.email, u.rating, u.role) " +
+            "from User u where u.id = :id")
+    Optional<UserSnapshot> findSnapshotById(Integer id);
+
+    /**
+     * Finds the snapshots of the users with the given ids, reading only the columns they hold.
+     *
+     * @param ids the ids of the users
+     * @return the snapshots in no particular order, without users that do not exist
+     */
+    @Query("select new freelanceplatform.dto.snapshot.UserSnapshot(u.id, u.username, u.firstName, u.lastName, u.email, u.rating, u.role) " +
+            "from User u where u.id in :ids")
+    List<UserSnapshot> findSnapshotsByIdIn(Collection<Integer> ids);
+
     /**
      * Retrieves all users.
      *
      * @return a list of all {@link User} entities
      */
     List<User> findAll();
+
+    /**
+     * Streams all users ordered by id.
+     *
+     * @return a stream of users, to be consumed and closed within a transaction
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = Streaming.FETCH_SIZE))
+    @Query("select new freelanceplatform.dto.readUpdate.UserReadUpdate(u.id, u.username, u.firstName, u.lastName, u.email, u.rating, u.role) " +
+            "from User u order by u.id")
+    Stream<UserReadUpdate> streamAll();
 }
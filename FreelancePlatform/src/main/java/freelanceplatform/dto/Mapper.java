@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import freelanceplatform.dto.creation.*;
 import freelanceplatform.dto.readUpdate.*;
+import freelanceplatform.dto.snapshot.*;
 import freelanceplatform.exceptions.NotFoundException;
 import freelanceplatform.model.*;
 import freelanceplatform.services.SolutionService;
@@ -45,6 +46,24 @@ public class Mapper {
                 .build();
     }
 
+    /**
+     * Converts a cached user snapshot to a UserDTO.
+     *
+     * @param user the snapshot to convert
+     * @return the converted UserDTO
+     */
+    public UserReadUpdate toReadUser(UserSnapshot user) {
+        return UserReadUpdate.builder()
+                .id(user.id())
+                .username(user.username())
+                .firstName(user.firstName())
+                .lastName(user.lastName())
+                .email(user.email())
+                .rating(user.rating())
+                .role(user.role())
+                .build();
+    }
+
     /**
      * Converts a UserCreationDTO to a User entity.
      *
@@ -94,6 +113,16 @@ public class Mapper {
                 .build();
     }
 
+    /**
+     * Converts a cached proposal snapshot to a ProposalDTO.
+     *
+     * @param proposal the snapshot to convert
+     * @return the converted ProposalDTO
+     */
+    public ProposalReadUpdate toProposalReadUpdate(ProposalSnapshot proposal) {
+        return new ProposalReadUpdate(proposal.id(), proposal.freelancerId(), proposal.taskId());
+    }
+
     /**
      * Converts a ProposalDTO to a Proposal entity.
      *
@@ -137,6 +166,28 @@ public class Mapper {
                 .freelancerUsername(Optional.ofNullable(task.getFreelancer())
                         .map(User::getUsername)
                         .orElse(null))
+                .postedDate(task.getPostedDate())
+                .build();
+    }
+
+    /**
+     * Converts a cached task snapshot to a TaskDTO.
+     *
+     * @param task the snapshot to convert
+     * @return the converted TaskDTO
+     */
+    public TaskReadUpdate toTaskReadUpdate(TaskSnapshot task) {
+        return TaskReadUpdate.builder()
+                .id(task.id())
+                .customerUsername(task.customerUsername())
+                .title(task.title())
+                .problem(task.problem())
+                .deadline(task.deadline())
+                .status(task.status())
+                .type(task.type())
+                .payment(task.payment())
+                .freelancerUsername(task.freelancerUsername())
+                .postedDate(task.postedDate())
                 .build();
     }
 
@@ -229,6 +280,16 @@ public class Mapper {
                 .build();
     }
 
+    /**
+     * Converts a cached feedback snapshot to a FeedbackDTO.
+     *
+     * @param fb the snapshot to convert
+     * @return the converted FeedbackDTO
+     */
+    public FeedbackReadUpdate toFeedbackReadUpdate(FeedbackSnapshot fb) {
+        return new FeedbackReadUpdate(fb.id(), fb.senderId(), fb.receiverId(), fb.rating(), fb.comment());
+    }
+
     /**
      * Converts a ProposalCreationDTO to a Proposal entity.
      *
@@ -294,6 +355,21 @@ public class Mapper {
                 .build();
     }
 
+    /**
+     * Converts a cached solution snapshot to a {@link SolutionReadUpdate} object.
+     *
+     * @param solution the snapshot to convert
+     * @return the corresponding {@link SolutionReadUpdate} object
+     */
+    public SolutionReadUpdate toSolutionReadUpdate(SolutionSnapshot solution) {
+        return SolutionReadUpdate.builder()
+                .id(solution.id())
+                .taskId(solution.taskId())
+                .link(solution.link())
+                .description(solution.description())
+                .build();
+    }
+
     /**
      * Converts a {@link Solution} object to a {@link SolutionCreation} object.
      *
@@ -0,0 +1,14 @@
+package freelanceplatform.dto.paging;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing.
+ *
+ * @param items          the items of the page, in display order
+ * @param nextCursor     encoded cursor of the following page or {@code null} if this is the last page
+ * @param previousCursor encoded cursor of the preceding page or {@code null} if this is the first page
+ * @param <T>            type of the page items
+ */
+public record KeysetPage<T>(List<T> items, String nextCursor, String previousCursor) {
+}
@@ -0,0 +1,56 @@
+package freelanceplatform.dto.paging;
+
+import freelanceplatform.exceptions.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position of a task on the task board, keyed by (postedDate, id).
+ * Clients receive it as an opaque string and pass it back to continue paging.
+ *
+ * @param postedDate posted date of the task the cursor points at
+ * @param id         id of the task the cursor points at, used as a tie-breaker
+ */
+public record TaskBoardCursor(LocalDateTime postedDate, Integer id) {
+
+    private static final String SEPARATOR = "|";
+
+    public TaskBoardCursor {
+        Objects.requireNonNull(postedDate);
+        Objects.requireNonNull(id);
+    }
+
+    /**
+     * Encodes the cursor into a URL-safe string.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        final String raw = postedDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @param value the encoded cursor, may be {@code null}
+     * @return the decoded cursor or {@code null} if no value was given
+     * @throws ValidationException if the value is not a valid cursor
+     */
+    public static TaskBoardCursor decode(String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            final int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) throw new ValidationException("Malformed task board cursor " + value);
+            return new TaskBoardCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Integer.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("Malformed task board cursor " + value);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package freelanceplatform.dto.paging;
+
+import freelanceplatform.exceptions.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position of a task in full-text search results, keyed by (rank, id).
+ * Clients receive it as an opaque string and pass it back to continue paging.
+ *
+ * @param rank relevance rank of the task the cursor points at
+ * @param id   id of the task the cursor points at, used as a tie-breaker
+ */
+public record TaskSearchCursor(Float rank, Integer id) {
+
+    private static final String SEPARATOR = "|";
+
+    public TaskSearchCursor {
+        Objects.requireNonNull(rank);
+        Objects.requireNonNull(id);
+    }
+
+    /**
+     * Encodes the cursor into a URL-safe string.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        final String raw = rank + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @param value the encoded cursor, may be {@code null}
+     * @return the decoded cursor or {@code null} if no value was given
+     * @throws ValidationException if the value is not a valid cursor
+     */
+    public static TaskSearchCursor decode(String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            final int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) throw new ValidationException("Malformed task search cursor " + value);
+            return new TaskSearchCursor(Float.valueOf(raw.substring(0, separator)),
+                    Integer.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Malformed task search cursor " + value);
+        }
+    }
+}
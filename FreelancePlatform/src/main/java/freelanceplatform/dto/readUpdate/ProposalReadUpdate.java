@@ -1,10 +1,14 @@
 package freelanceplatform.dto.readUpdate;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class ProposalReadUpdate {
 
     private Integer id;
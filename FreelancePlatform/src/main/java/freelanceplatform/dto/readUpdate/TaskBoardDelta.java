@@ -0,0 +1,30 @@
+package freelanceplatform.dto.readUpdate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Change of the task board pushed to live board subscribers.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBoardDelta {
+
+    public enum Kind {
+        /** The task was posted or returned to the board. */
+        POSTED,
+        /** A freelancer was assigned to the task, so it left the board. */
+        ASSIGNED,
+        /** The task was deleted. */
+        REMOVED
+    }
+
+    private Kind kind;
+    private Integer taskId;
+    /** State of the task after the change, {@code null} for {@link Kind#REMOVED}. */
+    private TaskReadUpdate task;
+}
@@ -0,0 +1,20 @@
+package freelanceplatform.dto.readUpdate;
+
+import freelanceplatform.model.TaskStatus;
+import freelanceplatform.model.TaskType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskFacets {
+
+    private Map<TaskType, Long> types;
+    private Map<TaskStatus, Long> statuses;
+}
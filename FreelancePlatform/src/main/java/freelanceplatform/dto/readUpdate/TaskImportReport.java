@@ -0,0 +1,37 @@
+package freelanceplatform.dto.readUpdate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import of tasks.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskImportReport {
+
+    /**
+     * A row that was not imported.
+     */
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RowError {
+        /** Line number for NDJSON, record number after the header for CSV, {@code 0} for the whole body. */
+        private long row;
+        private String message;
+    }
+
+    /** Number of rows read from the body. */
+    private long rows;
+    private long imported;
+    private long failed;
+    /** Errors of the failed rows, cut off after the configured number of errors. */
+    private List<RowError> errors;
+}
@@ -8,6 +8,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 
@@ -15,7 +16,7 @@ import java.time.LocalDateTime;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-public class TaskReadUpdate {
+public class TaskReadUpdate implements Serializable {
 
     private Integer id;
     private String customerUsername;
@@ -26,4 +27,5 @@ public class TaskReadUpdate {
     private Double payment;
     private TaskType type;
     private TaskStatus status;
+    private LocalDateTime postedDate;
 }
@@ -0,0 +1,7 @@
+package freelanceplatform.dto.snapshot;
+
+/**
+ * Immutable copy of the feedback columns served by reads, stored in the {@code feedbacks} cache.
+ */
+public record FeedbackSnapshot(Integer id, Integer senderId, Integer receiverId, Integer rating, String comment) {
+}
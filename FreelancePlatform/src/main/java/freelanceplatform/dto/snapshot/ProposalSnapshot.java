@@ -0,0 +1,7 @@
+package freelanceplatform.dto.snapshot;
+
+/**
+ * Immutable copy of the proposal columns served by reads, stored in the {@code proposals} cache.
+ */
+public record ProposalSnapshot(Integer id, Integer freelancerId, Integer taskId) {
+}
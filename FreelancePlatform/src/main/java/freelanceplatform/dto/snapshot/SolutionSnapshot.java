@@ -0,0 +1,7 @@
+package freelanceplatform.dto.snapshot;
+
+/**
+ * Immutable copy of the solution columns served by reads, stored in the {@code solutions} cache.
+ */
+public record SolutionSnapshot(Integer id, Integer taskId, String link, String description) {
+}
@@ -0,0 +1,14 @@
+package freelanceplatform.dto.snapshot;
+
+import freelanceplatform.model.TaskStatus;
+import freelanceplatform.model.TaskType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable copy of the task columns served by reads, stored in the {@code tasks} cache.
+ */
+public record TaskSnapshot(Integer id, Integer customerId, String customerUsername, Integer freelancerId,
+                           String freelancerUsername, String title, String problem, LocalDateTime deadline,
+                           Double payment, TaskType type, TaskStatus status, LocalDateTime postedDate) {
+}
@@ -0,0 +1,11 @@
+package freelanceplatform.dto.snapshot;
+
+import freelanceplatform.model.Role;
+
+/**
+ * Immutable copy of the user columns served by reads, stored in the {@code users} cache.
+ * It never contains the password.
+ */
+public record UserSnapshot(Integer id, String username, String firstName, String lastName, String email,
+                           int rating, Role role) {
+}
@@ -0,0 +1,94 @@
+package freelanceplatform.events;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Relays application events to every instance of the application through a Hazelcast topic.
+ *
+ * <p>Events published inside a transaction are held back until the transaction commits and are dropped
+ * on rollback. Each instance, including the publishing one, republishes received events as local
+ * Spring application events, so listeners are written with {@code @EventListener}.
+ */
+@Slf4j
+@Component
+public class ClusterEventPublisher {
+
+    public static final String TOPIC = "cluster-events";
+
+    private final ITopic<Serializable> topic;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public ClusterEventPublisher(HazelcastInstance hazelcastInstance, ApplicationEventPublisher applicationEventPublisher) {
+        this.topic = hazelcastInstance.getTopic(TOPIC);
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        topic.addMessageListener(message -> applicationEventPublisher.publishEvent(message.getMessageObject()));
+    }
+
+    /**
+     * Publishes the event to all instances, after the commit of the current transaction if there is one.
+     *
+     * @param event the event to publish
+     */
+    public void publish(Serializable event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(event);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<Serializable> pending = (List<Serializable>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new PendingEvents(pending));
+        }
+        pending.add(event);
+    }
+
+    /**
+     * Checks whether the current transaction has published events that were not delivered yet,
+     * i.e. whether it has changes other instances and local read models do not know about.
+     *
+     * @return true if there are events waiting for the commit of the current transaction
+     */
+    public boolean hasPendingEvents() {
+        return TransactionSynchronizationManager.hasResource(this);
+    }
+
+    private void send(Serializable event) {
+        try {
+            topic.publish(event);
+        } catch (RuntimeException e) {
+            log.error("Failed to publish cluster event {}", event, e);
+        }
+    }
+
+    private class PendingEvents implements TransactionSynchronization {
+
+        private final List<Serializable> events;
+
+        PendingEvents(List<Serializable> events) {
+            this.events = events;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ClusterEventPublisher.this);
+            if (status == STATUS_COMMITTED) events.forEach(ClusterEventPublisher.this::send);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package freelanceplatform.events;
+
+import freelanceplatform.dto.readUpdate.TaskReadUpdate;
+import freelanceplatform.model.TaskType;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Committed change of a task, delivered to every application instance.
+ *
+ * @param taskId       id of the changed task
+ * @param current      state of the task after the change or {@code null} if the task was deleted
+ * @param previousType type of the task before the change, the current type for new tasks,
+ *                     or {@code null} if it is not known
+ * @param version      change version of the task after the change, growing with every committed change;
+ *                     {@link #CREATED} for new tasks and {@link #DELETED} for deleted ones
+ */
+public record TaskChange(Integer taskId, TaskReadUpdate current, TaskType previousType, long version) implements Serializable {
+
+    /**
+     * Version of a task that was not changed since it was created.
+     */
+    public static final long CREATED = 0;
+
+    /**
+     * Version of a deleted task, newer than any other, since nothing follows the deletion.
+     */
+    public static final long DELETED = Long.MAX_VALUE;
+
+    public TaskChange {
+        Objects.requireNonNull(taskId);
+    }
+
+    /**
+     * Creates a change with the version of a created task.
+     *
+     * @param taskId       id of the changed task
+     * @param current      state of the task after the change
+     * @param previousType type of the task before the change or {@code null} if it is not known
+     */
+    public TaskChange(Integer taskId, TaskReadUpdate current, TaskType previousType) {
+        this(taskId, current, previousType, CREATED);
+    }
+
+    /**
+     * Creates a change with the version of a created task whose previous type is not known.
+     *
+     * @param taskId  id of the changed task
+     * @param current state of the task after the change
+     */
+    public TaskChange(Integer taskId, TaskReadUpdate current) {
+        this(taskId, current, null);
+    }
+
+    /**
+     * Creates a change describing the deletion of a task.
+     *
+     * @param taskId id of the deleted task
+     * @return the change
+     */
+    public static TaskChange deleted(Integer taskId) {
+        return new TaskChange(taskId, null, null, DELETED);
+    }
+
+    /**
+     * Creates a change describing the deletion of a task of a known type.
+     *
+     * @param taskId id of the deleted task
+     * @param type   type of the deleted task
+     * @return the change
+     */
+    public static TaskChange deleted(Integer taskId, TaskType type) {
+        return new TaskChange(taskId, null, type, DELETED);
+    }
+
+    /**
+     * Checks whether the task was deleted.
+     *
+     * @return true if the task no longer exists
+     */
+    public boolean isDeleted() {
+        return current == null;
+    }
+}
@@ -0,0 +1,16 @@
+package freelanceplatform.events;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Committed change of a user, delivered to every application instance.
+ *
+ * @param userId id of the created, updated or deleted user
+ */
+public record UserChange(Integer userId) implements Serializable {
+
+    public UserChange {
+        Objects.requireNonNull(userId);
+    }
+}
@@ -7,6 +7,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Slf4j
 @Service
 public class ChangesProducer<T> {
@@ -33,6 +35,20 @@ public class ChangesProducer<T> {
         kafkaTemplate.send(topic.toString(), message);
     }
 
+    /**
+     * Sends messages to a specified Kafka topic and waits until all of them have been handed to the broker,
+     * so they leave together instead of lingering one by one.
+     *
+     * @param messages the messages to be sent
+     * @param topic    the topic to which the messages are to be sent
+     */
+    public void sendMessages(List<String> messages, T topic) {
+        if (messages.isEmpty()) return;
+        log.info("events - {} messages to {}", messages.size(), topic);
+        messages.forEach(message -> kafkaTemplate.send(topic.toString(), message));
+        kafkaTemplate.flush();
+    }
+
     /**
      * Converts an object to its JSON string representation.
      *
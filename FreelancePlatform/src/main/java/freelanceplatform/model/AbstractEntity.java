@@ -15,7 +15,12 @@ import java.io.Serializable;
 @Data
 public abstract class AbstractEntity implements Serializable {
 
+    /**
+     * Name of the id generator each entity declares with its own pooled sequence, allocating fifty ids at once.
+     */
+    public static final String ID_GENERATOR = "id_generator";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_GENERATOR)
     private Integer id;
 }
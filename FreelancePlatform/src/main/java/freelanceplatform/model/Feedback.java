@@ -1,22 +1,25 @@
 package freelanceplatform.model;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import lombok.*;
 
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@SequenceGenerator(name = AbstractEntity.ID_GENERATOR, sequenceName = "feedback_seq", allocationSize = 50)
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
 public class Feedback extends AbstractEntity {
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "from_user_id")
     private User sender;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "to_user_id")
     private User receiver;
 
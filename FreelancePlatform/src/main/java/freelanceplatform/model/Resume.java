@@ -5,25 +5,34 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.JdbcTypeCode;
-
-import java.sql.Types;
 
 @EqualsAndHashCode(callSuper = true)
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@SequenceGenerator(name = AbstractEntity.ID_GENERATOR, sequenceName = "resume_seq", allocationSize = 50)
 @Data
 public class Resume extends AbstractEntity{
 
     @Column(nullable = false)
     private String filename;
 
+    /**
+     * Key of the content in the blob store.
+     */
+    @Column(length = 64)
+    private String contentHash;
+
+    /**
+     * Size of the content in bytes.
+     */
+    @Column
+    private Long size;
+
     @Column
-    @JdbcTypeCode(Types.BINARY)
-    private byte[] content;
+    private String contentType;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", unique = true)
     private User user;
 }
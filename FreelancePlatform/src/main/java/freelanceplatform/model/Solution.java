@@ -9,6 +9,7 @@ import lombok.NoArgsConstructor;
 
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@SequenceGenerator(name = AbstractEntity.ID_GENERATOR, sequenceName = "solution_seq", allocationSize = 50)
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
@@ -3,23 +3,44 @@ package freelanceplatform.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@SequenceGenerator(name = AbstractEntity.ID_GENERATOR, sequenceName = "task_seq", allocationSize = 50)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString(exclude = {"solution"})
+@NamedEntityGraph(name = Task.WITH_PARTIES, attributeNodes = {
+        @NamedAttributeNode("customer"),
+        @NamedAttributeNode("freelancer")
+})
+@Table(indexes = {
+        @Index(name = "idx_task_posted_date", columnList = "posted_date, id"),
+        @Index(name = "idx_task_status_posted_date", columnList = "status, posted_date, id"),
+        @Index(name = "idx_task_type_status_posted_date", columnList = "type, status, posted_date, id"),
+        @Index(name = "idx_task_freelancer_deadline", columnList = "freelancer_id, deadline"),
+        @Index(name = "idx_task_freelancer_status_deadline", columnList = "freelancer_id, status, deadline"),
+        @Index(name = "idx_task_customer_deadline", columnList = "customer_id, deadline"),
+        @Index(name = "idx_task_customer_status_deadline", columnList = "customer_id, status, deadline")
+})
 public class Task extends AbstractEntity {
 
+    /**
+     * Entity graph loading the customer and the freelancer together with the task, for the paths that
+     * read their names.
+     */
+    public static final String WITH_PARTIES = "Task.withParties";
+
     @JsonIgnore
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_id")
     private User customer;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "freelancer_id")
     private User freelancer;
 
@@ -49,14 +70,24 @@ public class Task extends AbstractEntity {
     @Column
     private LocalDateTime submittedDate;
 
-    @Column
+    @Column(nullable = false)
     private LocalDateTime postedDate;
 
     @JsonIgnore
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "solution_id")
     private Solution solution;
 
+    /**
+     * Number of committed changes of the task, ordering the events announcing them. Written by the database only.
+     */
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long changeVersion;
+
     public Task(User customer, String title, String problem, LocalDateTime deadline, Double payment, TaskType type) {
         this.customer = customer;
         this.title = title;
@@ -67,4 +98,12 @@ public class Task extends AbstractEntity {
         this.type = type;
         this.postedDate = LocalDateTime.now();
     }
+
+    /**
+     * Stamps tasks stored without a posted date, since the task board is ordered and paged by it.
+     */
+    @PrePersist
+    void stampPostedDate() {
+        if (postedDate == null) postedDate = LocalDateTime.now();
+    }
 }
@@ -1,6 +1,7 @@
 package freelanceplatform.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -12,8 +13,10 @@ import java.util.List;
 
 @EqualsAndHashCode(callSuper = true)
 @ToString(exclude = {"receivedFeedbacks", "sentFeedbacks", "proposals", "takenTasks", "postedTasks"})
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Entity
 @Table(name = "users")
+@SequenceGenerator(name = AbstractEntity.ID_GENERATOR, sequenceName = "users_seq", allocationSize = 50)
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
@@ -58,7 +61,7 @@ public class User extends AbstractEntity {
     @JsonIgnore
     private List<Feedback> sentFeedbacks = new ArrayList<>();
 
-    @OneToMany(fetch = FetchType.EAGER, mappedBy = "freelancer")
+    @OneToMany(fetch = FetchType.LAZY, mappedBy = "freelancer")
     @JsonIgnore
     private List<Task> takenTasks = new ArrayList<>();
 
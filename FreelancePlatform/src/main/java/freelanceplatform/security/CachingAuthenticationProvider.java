@@ -0,0 +1,161 @@
+package freelanceplatform.security;
+
+import freelanceplatform.events.UserChange;
+import freelanceplatform.model.Role;
+import freelanceplatform.model.User;
+import freelanceplatform.model.security.UserDetails;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Authentication provider remembering recently verified credentials, so that repeated HTTP Basic requests
+ * of a user skip both loading the user and the password hash verification for a short time.
+ *
+ * <p>A credential is remembered as an HMAC of the password under a key generated by this instance, never as the
+ * password itself, together with the fields of the user needed to build a principal. Every request still gets
+ * its own {@link User} instance. Entries live at most the configured time to live and are dropped on every
+ * committed {@link UserChange}, so a changed password, role or a deleted user is not accepted any longer.
+ * Credentials verified while a user change was in flight are not remembered.
+ */
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private record CachedUser(Integer id, String username, String firstName, String lastName, String email,
+                              int rating, Role role, String password) {
+
+        static CachedUser of(User user) {
+            return new CachedUser(user.getId(), user.getUsername(), user.getFirstName(), user.getLastName(),
+                    user.getEmail(), user.getRating(), user.getRole(), user.getPassword());
+        }
+
+        User toUser() {
+            final User user = new User();
+            user.setId(id);
+            user.setUsername(username);
+            user.setFirstName(firstName);
+            user.setLastName(lastName);
+            user.setEmail(email);
+            user.setRating(rating);
+            user.setRole(role);
+            user.setPassword(password);
+            return user;
+        }
+    }
+
+    private record Entry(byte[] credential, CachedUser user, long expiresAt) {
+    }
+
+    private final AuthenticationProvider delegate;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final ThreadLocal<Mac> macs;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong userChanges = new AtomicLong();
+
+    /**
+     * @param delegate   provider verifying credentials that are not remembered
+     * @param ttl        how long verified credentials are remembered
+     * @param maxEntries maximal number of remembered credentials
+     */
+    public CachingAuthenticationProvider(AuthenticationProvider delegate, Duration ttl, int maxEntries) {
+        this.delegate = delegate;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        final byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        final SecretKeySpec key = new SecretKeySpec(secret, "HmacSHA256");
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                final Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 is not available", e);
+            }
+        });
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        final String username = authentication.getName();
+        final Object credentials = authentication.getCredentials();
+        if (username == null || !(credentials instanceof String password)) return delegate.authenticate(authentication);
+
+        final byte[] credential = credential(username, password);
+        final long now = System.nanoTime();
+        final Entry entry = entries.get(username);
+        if (entry != null && now - entry.expiresAt() < 0 && MessageDigest.isEqual(entry.credential(), credential)) {
+            return authenticated(new UserDetails(entry.user().toUser()), authentication);
+        }
+
+        final long changesBefore = userChanges.get();
+        final Authentication result = delegate.authenticate(authentication);
+        if (result != null && result.getPrincipal() instanceof UserDetails details) {
+            remember(username, new Entry(credential, CachedUser.of(details.getUser()), now + ttlNanos), changesBefore);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+
+    /**
+     * Forgets the credentials of a changed user.
+     *
+     * @param change the change
+     */
+    @EventListener
+    public void onUserChange(UserChange change) {
+        userChanges.incrementAndGet();
+        entries.values().removeIf(entry -> Objects.equals(entry.user().id(), change.userId()));
+    }
+
+    /**
+     * Returns the number of remembered credentials.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void remember(String username, Entry entry, long changesBefore) {
+        if (entries.size() >= maxEntries) {
+            final long now = System.nanoTime();
+            entries.values().removeIf(existing -> now - existing.expiresAt() >= 0);
+            if (entries.size() >= maxEntries) return;
+        }
+        entries.put(username, entry);
+        // a user change delivered meanwhile may have been verified against the old password
+        if (userChanges.get() != changesBefore) entries.remove(username, entry);
+    }
+
+    private byte[] credential(String username, String password) {
+        final Mac mac = macs.get();
+        mac.update(username.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0);
+        return mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Authentication authenticated(UserDetails details, Authentication request) {
+        final UsernamePasswordAuthenticationToken token = UsernamePasswordAuthenticationToken.authenticated(
+                details, request.getCredentials(), details.getAuthorities());
+        token.setDetails(request.getDetails());
+        return token;
+    }
+}
@@ -2,6 +2,8 @@ package freelanceplatform.services;
 
 import freelanceplatform.data.FeedbackRepository;
 import freelanceplatform.data.UserRepository;
+import freelanceplatform.dto.readUpdate.FeedbackReadUpdate;
+import freelanceplatform.dto.snapshot.FeedbackSnapshot;
 import freelanceplatform.exceptions.NotFoundException;
 import freelanceplatform.model.Feedback;
 import freelanceplatform.model.User;
@@ -9,7 +11,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +18,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Service class for managing feedback.
@@ -37,7 +40,7 @@ public class FeedbackService implements IService<Feedback, Integer> {
      * @return the updated feedback
      */
     @Transactional
-    @CachePut(key = "#newFb.id")
+    @CacheEvict(key = "#newFb.id")
     public Feedback update(Feedback newFb) {
         Objects.requireNonNull(newFb);
         log.info("Updating feedback with id {}", newFb.getId());
@@ -55,7 +58,7 @@ public class FeedbackService implements IService<Feedback, Integer> {
      * @return the saved feedback
      */
     @Transactional
-    @CachePut(key = "#feedback.id")
+    @CacheEvict(key = "#feedback.id")
     public Feedback save(Feedback feedback) {
         Objects.requireNonNull(feedback);
         log.info("Saving new feedback with id {}", feedback.getId());
@@ -75,13 +78,27 @@ public class FeedbackService implements IService<Feedback, Integer> {
      * @return an Optional containing the found feedback, or empty if not found
      */
     @Transactional(readOnly = true)
-    @Cacheable
     public Optional<Feedback> findById(Integer id) {
         Objects.requireNonNull(id);
         log.info("Finding feedback by id {}", id);
         return feedbackRepository.findById(id);
     }
 
+    /**
+     * Retrieves the read-only snapshot of a feedback by its ID, from the cache when possible.
+     * Cache entries are evicted by every change of the feedback.
+     *
+     * @param id ID of the feedback to retrieve.
+     * @return an Optional containing the snapshot of the feedback, or empty if not found
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(sync = true)
+    public Optional<FeedbackSnapshot> findSnapshotById(Integer id) {
+        Objects.requireNonNull(id);
+        log.info("Finding feedback snapshot by id {}", id);
+        return feedbackRepository.findSnapshotById(id);
+    }
+
     /**
      * Finds all feedbacks.
      *
@@ -93,6 +110,19 @@ public class FeedbackService implements IService<Feedback, Integer> {
         return feedbackRepository.findAll();
     }
 
+    /**
+     * Passes all feedbacks to the consumer one by one without loading them into memory at once.
+     *
+     * @param consumer the receiver of the feedbacks
+     */
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<FeedbackReadUpdate> consumer) {
+        log.info("Streaming all feedbacks");
+        try (Stream<FeedbackReadUpdate> feedbacks = feedbackRepository.streamAll()) {
+            feedbacks.forEach(consumer);
+        }
+    }
+
     /**
      * Deletes a feedback by its ID.
      *
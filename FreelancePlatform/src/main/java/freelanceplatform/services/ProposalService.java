@@ -3,6 +3,8 @@ package freelanceplatform.services;
 import freelanceplatform.data.ProposalRepository;
 import freelanceplatform.data.TaskRepository;
 import freelanceplatform.data.UserRepository;
+import freelanceplatform.dto.readUpdate.ProposalReadUpdate;
+import freelanceplatform.dto.snapshot.ProposalSnapshot;
 import freelanceplatform.exceptions.NotFoundException;
 import freelanceplatform.model.Proposal;
 import freelanceplatform.model.User;
@@ -10,7 +12,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +19,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Service class for managing proposals.
@@ -39,7 +42,7 @@ public class ProposalService implements IService<Proposal, Integer> {
      * @return the updated proposal
      */
     @Transactional
-    @CachePut(key = "#proposal.id")
+    @CacheEvict(key = "#proposal.id")
     public Proposal update(Proposal proposal) {
         Objects.requireNonNull(proposal);
         log.info("Updating proposal with id {}", proposal.getId());
@@ -57,7 +60,7 @@ public class ProposalService implements IService<Proposal, Integer> {
      * @return the saved proposal
      */
     @Transactional
-    @CachePut(key = "#proposal.id")
+    @CacheEvict(key = "#proposal.id")
     public Proposal save(Proposal proposal) {
         Objects.requireNonNull(proposal);
         log.info("Saving new proposal with id {}", proposal.getId());
@@ -80,13 +83,27 @@ public class ProposalService implements IService<Proposal, Integer> {
      * @return an Optional containing the found proposal, or empty if not found
      */
     @Transactional(readOnly = true)
-    @Cacheable
     public Optional<Proposal> findById(Integer id) {
         Objects.requireNonNull(id);
         log.info("Finding proposal by id {}", id);
         return proposalRepository.findById(id);
     }
 
+    /**
+     * Retrieves the read-only snapshot of a proposal by its ID, from the cache when possible.
+     * Cache entries are evicted by every change of the proposal.
+     *
+     * @param id ID of the proposal to retrieve.
+     * @return an Optional containing the snapshot of the proposal, or empty if not found
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(sync = true)
+    public Optional<ProposalSnapshot> findSnapshotById(Integer id) {
+        Objects.requireNonNull(id);
+        log.info("Finding proposal snapshot by id {}", id);
+        return proposalRepository.findSnapshotById(id);
+    }
+
     /**
      * Finds all proposals.
      *
@@ -98,6 +115,19 @@ public class ProposalService implements IService<Proposal, Integer> {
         return proposalRepository.findAll();
     }
 
+    /**
+     * Passes all proposals to the consumer one by one without loading them into memory at once.
+     *
+     * @param consumer the receiver of the proposals
+     */
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<ProposalReadUpdate> consumer) {
+        log.info("Streaming all proposals");
+        try (Stream<ProposalReadUpdate> proposals = proposalRepository.streamAll()) {
+            proposals.forEach(consumer);
+        }
+    }
+
     /**
      * Finds proposals by their freelancer.
      *
@@ -2,9 +2,11 @@ package freelanceplatform.services;
 
 import freelanceplatform.data.SolutionRepository;
 import freelanceplatform.data.TaskRepository;
+import freelanceplatform.dto.snapshot.SolutionSnapshot;
 import freelanceplatform.exceptions.NotFoundException;
 import freelanceplatform.model.Solution;
 import freelanceplatform.model.Task;
+import freelanceplatform.services.cache.NotFoundMarkers;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.*;
@@ -22,11 +24,13 @@ public class SolutionService implements IService<Solution, Integer>{
 
     private final SolutionRepository solutionRepo;
     private final TaskRepository taskRepo;
+    private final NotFoundMarkers notFoundMarkers;
 
     @Autowired
-    public SolutionService(SolutionRepository solutionRepo, TaskRepository taskRepo) {
+    public SolutionService(SolutionRepository solutionRepo, TaskRepository taskRepo, NotFoundMarkers notFoundMarkers) {
         this.solutionRepo = solutionRepo;
         this.taskRepo = taskRepo;
+        this.notFoundMarkers = notFoundMarkers;
     }
 
     /**
@@ -34,7 +38,7 @@ public class SolutionService implements IService<Solution, Integer>{
      *
      * @param solution Solution object to be saved.
      */
-    @CachePut(key = "#solution.id")
+    @CacheEvict(key = "#solution.id")
     @Transactional
     public Solution save(Solution solution) {
         Objects.requireNonNull(solution);
@@ -43,6 +47,7 @@ public class SolutionService implements IService<Solution, Integer>{
         Objects.requireNonNull(task);
         solution.setTask(taskRepo.findById(task.getId()).orElse(null));
         solutionRepo.save(solution);
+        notFoundMarkers.markPresentAfterCommit("solutions", solution.getId());
         return solution;
     }
 
@@ -65,13 +70,36 @@ public class SolutionService implements IService<Solution, Integer>{
      * @throws NotFoundException if the solution with the specified ID is not found.
      */
     @Transactional(readOnly = true)
-    @Cacheable
     public Optional<Solution> findById(Integer id) {
         Objects.requireNonNull(id);
         log.info("Finding solution by id {}.", id);
-        Optional<Solution> solution = solutionRepo.findById(id);
-        if (solution.isEmpty()) throw new NotFoundException("Solution identified by " + id + " not found.");
-        return solution;
+        if (!notFoundMarkers.isMissing("solutions", id)) {
+            final Optional<Solution> solution = solutionRepo.findById(id);
+            if (solution.isPresent()) return solution;
+            notFoundMarkers.markMissing("solutions", id);
+        }
+        throw new NotFoundException("Solution identified by " + id + " not found.");
+    }
+
+    /**
+     * Retrieves the read-only snapshot of a solution by its ID, from the cache when possible.
+     * Cache entries are evicted by every change of the solution.
+     *
+     * @param id ID of the solution to retrieve.
+     * @return the snapshot of the solution if found.
+     * @throws NotFoundException if the solution with the specified ID is not found.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(sync = true)
+    public Optional<SolutionSnapshot> findSnapshotById(Integer id) {
+        Objects.requireNonNull(id);
+        log.info("Finding solution snapshot by id {}", id);
+        if (!notFoundMarkers.isMissing("solutions", id)) {
+            final Optional<SolutionSnapshot> snapshot = solutionRepo.findSnapshotById(id);
+            if (snapshot.isPresent()) return snapshot;
+            notFoundMarkers.markMissing("solutions", id);
+        }
+        throw new NotFoundException("Solution identified by " + id + " not found.");
     }
 
     /**
@@ -82,7 +110,6 @@ public class SolutionService implements IService<Solution, Integer>{
      * @throws NotFoundException if no solution is found for the specified task.
      */
     @Transactional(readOnly = true)
-    @Cacheable
     public Solution getByTask(Task task) {
         Objects.requireNonNull(task);
         log.info("Finding solution with id {} by task with id {}.",task.getSolution().getId(), task.getId());
@@ -111,7 +138,7 @@ public class SolutionService implements IService<Solution, Integer>{
      * @throws NotFoundException if the solution to update is not found.
      */
     @Transactional
-    @CachePut(key = "#solution.id")
+    @CacheEvict(key = "#solution.id")
     public Solution update(Solution solution) {
         Objects.requireNonNull(solution);
         log.info("Updating solution with id {} ", solution.getId());
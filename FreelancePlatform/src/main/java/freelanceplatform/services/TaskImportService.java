@@ -0,0 +1,250 @@
+package freelanceplatform.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import freelanceplatform.dto.creation.TaskCreation;
+import freelanceplatform.dto.readUpdate.TaskImportReport;
+import freelanceplatform.dto.readUpdate.TaskImportReport.RowError;
+import freelanceplatform.exceptions.ValidationException;
+import freelanceplatform.model.Task;
+import freelanceplatform.model.User;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Imports tasks posted in bulk by one customer.
+ *
+ * <p>The body is read as a stream, one row at a time, so its size is not limited by memory. Each row is
+ * validated on its own and valid rows are written in chunks, each chunk in its own transaction through
+ * {@link TaskService#saveAll}, which announces the chunk in one batch. A row that fails validation is
+ * reported and skipped. A chunk rejected by the database is retried row by row, so one bad row does not
+ * cost the others of its chunk. A body that cannot be read any further ends the import, keeping the rows
+ * read before.
+ */
+@Slf4j
+@Service
+public class TaskImportService {
+
+    /**
+     * Formats of the imported body. NDJSON holds one {@link TaskCreation} object per line, CSV holds a header
+     * naming the {@link TaskCreation} properties followed by one task per record.
+     */
+    public enum Format { NDJSON, CSV }
+
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .enable(CsvParser.Feature.IGNORE_TRAILING_UNMAPPABLE)
+            .build();
+
+    private final TaskService taskService;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public TaskImportService(TaskService taskService,
+                             ObjectMapper objectMapper,
+                             EntityManager entityManager,
+                             @Value("${app.task-import.chunk-size:500}") int chunkSize,
+                             @Value("${app.task-import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.taskService = taskService;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Imports the tasks of a body as new unassigned tasks of a customer. Customer and status given in the
+     * rows are ignored.
+     *
+     * @param body       the body to read
+     * @param format     format of the body
+     * @param customerId id of the customer posting the tasks
+     * @return counts of read, imported and failed rows together with the errors of the failed rows
+     */
+    public TaskImportReport importTasks(InputStream body, Format format, Integer customerId) {
+        log.info("Importing {} tasks of user with id {}", format, customerId);
+        final Job job = new Job(customerId);
+        try {
+            final RowSource source = format == Format.CSV ? csv(body) : ndjson(body);
+            for (Row row = source.next(); row != null; row = source.next()) {
+                job.read(row);
+            }
+        } catch (IOException e) {
+            log.warn("Task import stopped on unreadable body", e);
+            job.addError(0, "Body could not be read any further: " + e.getMessage());
+        }
+        job.flush();
+        log.info("Imported {} of {} tasks of user with id {}", job.report.getImported(), job.report.getRows(), customerId);
+        return job.report;
+    }
+
+    /**
+     * Checks that a row describes a task that can be posted.
+     *
+     * @param row the row to check
+     * @throws ValidationException if the row is not valid
+     */
+    static void validate(TaskCreation row) {
+        requireText("Title", row.getTitle());
+        requireText("Problem", row.getProblem());
+        if (row.getDeadline() == null) throw new ValidationException("Deadline is missing");
+        if (!row.getDeadline().isAfter(LocalDateTime.now())) throw new ValidationException("Deadline must be in the future");
+        if (row.getPayment() == null || !(row.getPayment() > 0)) throw new ValidationException("Payment must be positive");
+        if (row.getType() == null) throw new ValidationException("Type is missing");
+    }
+
+    private static void requireText(String name, String value) {
+        if (value == null || value.isBlank()) throw new ValidationException(name + " is missing");
+        if (value.length() > MAX_TEXT_LENGTH) {
+            throw new ValidationException(name + " must not be longer than " + MAX_TEXT_LENGTH + " characters");
+        }
+    }
+
+    private RowSource ndjson(InputStream body) {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        final ObjectReader rowReader = objectMapper.readerFor(TaskCreation.class);
+        return new RowSource() {
+            private long line;
+
+            @Override
+            public Row next() throws IOException {
+                String text;
+                do {
+                    text = reader.readLine();
+                    line++;
+                } while (text != null && text.isBlank());
+                if (text == null) return null;
+                try {
+                    return new Row(line, rowReader.readValue(text), null);
+                } catch (JsonProcessingException e) {
+                    return new Row(line, null, "Malformed row: " + e.getOriginalMessage());
+                }
+            }
+        };
+    }
+
+    private RowSource csv(InputStream body) throws IOException {
+        final MappingIterator<Map<String, String>> records = CSV_MAPPER.readerFor(Map.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .readValues(new InputStreamReader(body, StandardCharsets.UTF_8));
+        return new RowSource() {
+            private long record;
+
+            @Override
+            public Row next() throws IOException {
+                if (!records.hasNextValue()) return null;
+                final Map<String, String> values = records.nextValue();
+                record++;
+                values.values().removeIf(String::isEmpty);
+                try {
+                    return new Row(record, objectMapper.convertValue(values, TaskCreation.class), null);
+                } catch (IllegalArgumentException e) {
+                    final Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+                    return new Row(record, null, "Malformed row: "
+                            + (cause instanceof JsonProcessingException json ? json.getOriginalMessage() : cause.getMessage()));
+                }
+            }
+        };
+    }
+
+    private interface RowSource {
+        /**
+         * @return the next row or {@code null} at the end of the body
+         */
+        Row next() throws IOException;
+    }
+
+    private record Row(long number, TaskCreation task, String error) {
+    }
+
+    /**
+     * State of one import: the report and the valid rows not written yet.
+     */
+    private class Job {
+
+        private final Integer customerId;
+        private final List<Row> chunk = new ArrayList<>();
+        private final TaskImportReport report = TaskImportReport.builder().errors(new ArrayList<>()).build();
+
+        Job(Integer customerId) {
+            this.customerId = customerId;
+        }
+
+        void read(Row row) {
+            report.setRows(report.getRows() + 1);
+            if (row.error() != null) {
+                fail(row.number(), row.error());
+                return;
+            }
+            try {
+                validate(row.task());
+            } catch (ValidationException e) {
+                fail(row.number(), e.getMessage());
+                return;
+            }
+            chunk.add(row);
+            if (chunk.size() >= chunkSize) flush();
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) return;
+            try {
+                taskService.saveAll(chunk.stream().map(this::toTask).toList());
+                report.setImported(report.getImported() + chunk.size());
+            } catch (RuntimeException e) {
+                log.warn("Chunk of {} tasks was rejected, saving its rows one by one", chunk.size(), e);
+                entityManager.clear();
+                chunk.forEach(this::saveAlone);
+            } finally {
+                chunk.clear();
+                entityManager.clear();
+            }
+        }
+
+        void fail(long row, String message) {
+            report.setFailed(report.getFailed() + 1);
+            addError(row, message);
+        }
+
+        void addError(long row, String message) {
+            if (report.getErrors().size() < maxReportedErrors) report.getErrors().add(new RowError(row, message));
+        }
+
+        private void saveAlone(Row row) {
+            try {
+                taskService.save(toTask(row));
+                report.setImported(report.getImported() + 1);
+            } catch (RuntimeException e) {
+                entityManager.clear();
+                fail(row.number(), "Task could not be saved: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            }
+        }
+
+        private Task toTask(Row row) {
+            final TaskCreation creation = row.task();
+            return new Task(entityManager.getReference(User.class, customerId), creation.getTitle(), creation.getProblem(),
+                    creation.getDeadline(), creation.getPayment(), creation.getType());
+        }
+    }
+}
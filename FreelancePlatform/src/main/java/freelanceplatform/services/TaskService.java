@@ -1,27 +1,63 @@
 package freelanceplatform.services;
 
 
+import freelanceplatform.data.PrimaryReads;
 import freelanceplatform.data.SolutionRepository;
+import freelanceplatform.data.TaskFacetRow;
+import freelanceplatform.data.TaskFilter;
+import freelanceplatform.data.TaskParticipants;
 import freelanceplatform.data.TaskRepository;
+import freelanceplatform.data.TaskSearchHit;
 import freelanceplatform.data.UserRepository;
+import freelanceplatform.dto.Mapper;
+import freelanceplatform.dto.paging.KeysetPage;
+import freelanceplatform.dto.paging.TaskBoardCursor;
+import freelanceplatform.dto.paging.TaskSearchCursor;
+import freelanceplatform.dto.readUpdate.TaskFacets;
+import freelanceplatform.dto.readUpdate.TaskReadUpdate;
+import freelanceplatform.dto.snapshot.TaskSnapshot;
+import freelanceplatform.events.ClusterEventPublisher;
+import freelanceplatform.events.TaskChange;
 import freelanceplatform.exceptions.NotFoundException;
 import freelanceplatform.exceptions.ValidationException;
 import freelanceplatform.kafka.ChangesProducer;
 import freelanceplatform.kafka.topics.TaskChangesTopic;
 import freelanceplatform.model.*;
+import freelanceplatform.services.board.TaskBoardCache;
+import freelanceplatform.services.board.TaskBoardIndex;
+import freelanceplatform.services.board.TaskFacetCounts;
+import freelanceplatform.services.cache.AfterCommit;
+import freelanceplatform.services.cache.NotFoundMarkers;
+import freelanceplatform.services.cache.TaskListCache;
+import freelanceplatform.services.versions.ResourceVersions;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static freelanceplatform.kafka.topics.TaskChangesTopic.*;
 
@@ -35,90 +71,513 @@ public class TaskService implements IService<Task, Integer>{
     private final UserRepository userRepo;
     private final SolutionRepository solutionRepo;
     private final ChangesProducer<TaskChangesTopic> taskChangesProducer;
+    private final ClusterEventPublisher clusterEventPublisher;
+    private final TaskBoardIndex taskBoardIndex;
+    private final TaskBoardCache taskBoardCache;
+    private final TaskFacetCounts taskFacetCounts;
+    private final NotFoundMarkers notFoundMarkers;
+    private final TaskListCache taskListCache;
+    private final ResourceVersions resourceVersions;
+    private final Mapper mapper;
 
     @Autowired
-    public TaskService(TaskRepository taskRepo, UserRepository userRepo, SolutionRepository solutionRepo, ChangesProducer<TaskChangesTopic> taskChangesProducer) {
+    public TaskService(TaskRepository taskRepo, UserRepository userRepo, SolutionRepository solutionRepo,
+                       ChangesProducer<TaskChangesTopic> taskChangesProducer, ClusterEventPublisher clusterEventPublisher,
+                       TaskBoardIndex taskBoardIndex, TaskBoardCache taskBoardCache, TaskFacetCounts taskFacetCounts,
+                       NotFoundMarkers notFoundMarkers, TaskListCache taskListCache, ResourceVersions resourceVersions,
+                       @Lazy Mapper mapper) {
         this.taskRepo = taskRepo;
         this.userRepo = userRepo;
         this.solutionRepo = solutionRepo;
         this.taskChangesProducer = taskChangesProducer;
+        this.clusterEventPublisher = clusterEventPublisher;
+        this.taskBoardIndex = taskBoardIndex;
+        this.taskBoardCache = taskBoardCache;
+        this.taskFacetCounts = taskFacetCounts;
+        this.notFoundMarkers = notFoundMarkers;
+        this.taskListCache = taskListCache;
+        this.resourceVersions = resourceVersions;
+        this.mapper = mapper;
     }
 
     /**
-     * Saves a new task.
+     * Saves a new task. The {@code task_posted} message is sent once the transaction commits.
      *
      * @param task Task object to be saved.
      */
-    @CachePut(key = "#task.id")
+    @CacheEvict(key = "#task.id")
     @Transactional
     public Task save(Task task){
         log.info("Saving new task with id {}", task.getId());
         Objects.requireNonNull(task);
+        if (task.getPostedDate() == null) task.setPostedDate(LocalDateTime.now());
         taskRepo.save(task);
-        taskChangesProducer.sendMessage(taskChangesProducer.toJsonString(task), TaskPosted);
+        notFoundMarkers.markPresentAfterCommit("tasks", task.getId());
+        evictTaskLists(task);
+        publishCreation(task);
+        final String message = taskChangesProducer.toJsonString(task);
+        AfterCommit.run(() -> taskChangesProducer.sendMessage(message, TaskPosted));
         return task;
     }
 
     /**
-     * Saves a list of tasks.
+     * Saves a list of tasks and announces them together: the task lists of each customer and freelancer
+     * are evicted once and the {@code task_posted} messages are sent as one batch. Inserts are batched
+     * until the commit, so the messages are sent only once the database accepted all of the tasks.
      *
      * @param tasks List of Task objects to be saved.
      */
     @Transactional
     public void saveAll(List<Task> tasks){
-        log.info("Saving all tasks");
         Objects.requireNonNull(tasks);
+        log.info("Saving {} tasks", tasks.size());
+        final LocalDateTime now = LocalDateTime.now();
+        tasks.stream().filter(task -> task.getPostedDate() == null).forEach(task -> task.setPostedDate(now));
         taskRepo.saveAll(tasks);
+        final Set<List<Integer>> parties = new HashSet<>();
+        tasks.forEach(task -> {
+            notFoundMarkers.markPresentAfterCommit("tasks", task.getId());
+            if (parties.add(Arrays.asList(task.getCustomer() == null ? null : task.getCustomer().getId(),
+                    task.getFreelancer() == null ? null : task.getFreelancer().getId()))) {
+                evictTaskLists(task);
+            }
+            publishCreation(task);
+        });
+        final List<String> messages = tasks.stream().map(taskChangesProducer::toJsonString).toList();
+        AfterCommit.run(() -> {
+            try {
+                taskChangesProducer.sendMessages(messages, TaskPosted);
+            } catch (RuntimeException e) {
+                // the tasks are saved, so the caller must not see the batch as failed
+                log.error("Failed to announce {} saved tasks", messages.size(), e);
+            }
+        });
     }
 
     /**
-     * Retrieves a task by its ID.
+     * Retrieves a task by its ID. Missing IDs are remembered for a short time and answered without a query.
      *
      * @param id ID of the task to retrieve.
      * @return Task object if found.
      * @throws NotFoundException if the task with the specified ID is not found.
      */
     @Transactional(readOnly = true)
-    @Cacheable
     public Optional<Task> findById(Integer id){
         log.info("Finding Task by id {}", id);
         Objects.requireNonNull(id);
-        Optional<Task> task = taskRepo.findById(id);
-        if (task.isEmpty()) throw new NotFoundException("Task identified by " + id + " not found.");
-        return task;
+        if (!notFoundMarkers.isMissing("tasks", id)) {
+            final Optional<Task> task = taskRepo.findById(id);
+            if (task.isPresent()) return task;
+            notFoundMarkers.markMissing("tasks", id);
+        }
+        throw new NotFoundException("Task identified by " + id + " not found.");
+    }
+
+    /**
+     * Retrieves the read-only snapshot of a task by its ID, from the cache when possible.
+     * Cache entries are evicted by every change of the task.
+     * A miss is loaded under a cluster-wide lock of the key, so concurrent callers wait for a single database read.
+     *
+     * @param id ID of the task to retrieve.
+     * @return the snapshot of the task if found.
+     * @throws NotFoundException if the task with the specified ID is not found.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(sync = true)
+    public Optional<TaskSnapshot> findSnapshotById(Integer id) {
+        Objects.requireNonNull(id);
+        log.info("Finding Task snapshot by id {}", id);
+        if (!notFoundMarkers.isMissing("tasks", id)) {
+            final Optional<TaskSnapshot> snapshot = taskRepo.findSnapshotById(id);
+            if (snapshot.isPresent()) return snapshot;
+            notFoundMarkers.markMissing("tasks", id);
+        }
+        throw new NotFoundException("Task identified by " + id + " not found.");
+    }
+
+    /**
+     * Retrieves the read-only snapshots of tasks by their IDs with one query, bypassing the cache.
+     *
+     * @param ids IDs of the tasks to retrieve.
+     * @return the snapshots of the tasks found, in no particular order.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskSnapshot> findSnapshotsByIds(Collection<Integer> ids) {
+        log.info("Finding {} task snapshots by id", ids.size());
+        return taskRepo.findSnapshotsByIdIn(ids);
+    }
+
+    /**
+     * Retrieves the ids of the most recently posted tasks with a specific status.
+     *
+     * @param status TaskStatus of the tasks.
+     * @param limit  Maximal number of ids.
+     * @return list of ids from the newest task.
+     */
+    @Transactional(readOnly = true)
+    public List<Integer> findRecentIds(TaskStatus status, int limit) {
+        log.info("Finding {} recent task ids with status {}", limit, status);
+        return taskRepo.findRecentIdsByStatus(status, Limit.of(limit));
     }
 
     /**
-     * Retrieves all unassigned tasks sorted by posted date.
+     * Retrieves the ids of the customers and freelancers of the most recently created tasks. Reads at most
+     * as many tasks as ids are requested, so fewer ids are returned when users took part in several of them.
      *
+     * @param limit Maximal number of ids.
+     * @return list of distinct user ids from the most recently active user.
+     */
+    @Transactional(readOnly = true)
+    public List<Integer> findRecentlyActiveUserIds(int limit) {
+        log.info("Finding {} recently active user ids", limit);
+        final Set<Integer> ids = new LinkedHashSet<>();
+        for (TaskParticipants participants : taskRepo.findLatestParticipants(Limit.of(limit))) {
+            ids.add(participants.customerId());
+            if (participants.freelancerId() != null) ids.add(participants.freelancerId());
+        }
+        return ids.stream().filter(Objects::nonNull).limit(limit).toList();
+    }
+
+    /**
+     * Loads the task board index from the primary database. Called by the startup warm-up and periodically,
+     * to repair changes whose events were lost.
+     */
+    @Transactional(readOnly = true)
+    public void rebuildTaskBoardIndex() {
+        if (!taskBoardIndex.isEnabled()) return;
+        log.info("Rebuilding task board index");
+        PrimaryReads.run(() -> taskBoardIndex.rebuild(() -> taskRepo.findFiltered(TaskFilter.board(null), true, null, null)));
+    }
+
+    /**
+     * Periodically reloads the task board index from the primary database.
+     */
+    @Scheduled(initialDelayString = "${app.task-board.index.reconcile-interval}", fixedDelayString = "${app.task-board.index.reconcile-interval}")
+    @Transactional(readOnly = true)
+    public void reconcileTaskBoardIndex() {
+        rebuildTaskBoardIndex();
+    }
+
+    /**
+     * Loads the task facet counts from the primary database. Called by the startup warm-up and when the counts drift.
+     */
+    @Transactional(readOnly = true)
+    public void rebuildTaskFacetCounts() {
+        log.info("Rebuilding task facet counts");
+        PrimaryReads.run(() -> {
+            try (Stream<TaskFacetRow> tasks = taskRepo.streamAllFacets()) {
+                taskFacetCounts.rebuild(tasks);
+            }
+        });
+    }
+
+    /**
+     * Periodically compares the task facet counts with the primary database and rebuilds them if they drifted.
+     */
+    @Scheduled(initialDelayString = "${app.task-facets.reconcile-interval}", fixedDelayString = "${app.task-facets.reconcile-interval}")
+    @Transactional(readOnly = true)
+    public void reconcileTaskFacetCounts() {
+        PrimaryReads.run(() -> {
+            if (taskFacetCounts.reconcile(taskRepo.countByTypeAndStatus())) {
+                log.warn("Task facet counts drifted from the database");
+                rebuildTaskFacetCounts();
+            }
+        });
+    }
+
+    /**
+     * Retrieves the numbers of tasks per type and per status. The numbers are served from the task facet counts
+     * when they are loaded.
+     *
+     * @return numbers of tasks per type and per status.
+     */
+    @Transactional(readOnly = true)
+    public TaskFacets findTaskFacets() {
+        if (taskFacetCounts.isReady()) return taskFacetCounts.snapshot();
+        log.info("Counting task facets");
+        return TaskFacetCounts.aggregate(taskRepo.countByTypeAndStatus());
+    }
+
+    /**
+     * Retrieves the task board, i.e. all unassigned tasks, optionally filtered by type, sorted by posted date.
+     * The board is served from the task board index when it is loaded.
+     *
+     * @param type       TaskType to filter tasks by or {@code null} for all types.
      * @param fromNewest Whether to sort tasks from newest to oldest.
-     * @return Iterable of Task objects.
+     * @return list of tasks.
      */
     @Transactional(readOnly = true)
-    public List<Task> findAllTaskBoardByPostedDate(boolean fromNewest){
-        log.info("Finding all tasks by posted date fromNewest: {}", fromNewest);
-        if (fromNewest) {
-            return taskRepo.findAllByStatusFromNewest(TaskStatus.UNASSIGNED);
-        } else {
-            return taskRepo.findAllByStatusFromOldest(TaskStatus.UNASSIGNED);
+    public List<TaskReadUpdate> findTaskBoard(TaskType type, boolean fromNewest) {
+        if (boardServedFromIndex()) return taskBoardIndex.findAll(type, fromNewest);
+        return type == null
+                ? findAllTaskBoardByPostedDate(fromNewest)
+                : findAllTaskBoardByTypeAndPostedDate(type, fromNewest);
+    }
+
+    /**
+     * Passes the task board to the consumer one task at a time, sorted by posted date.
+     * The board is served from the task board index when it is loaded, otherwise it is streamed from the database.
+     *
+     * @param type       TaskType to filter tasks by or {@code null} for all types.
+     * @param fromNewest Whether to sort tasks from newest to oldest.
+     * @param consumer   Receiver of the tasks.
+     */
+    @Transactional(readOnly = true)
+    public void streamTaskBoard(TaskType type, boolean fromNewest, Consumer<TaskReadUpdate> consumer) {
+        log.info("Streaming task board by type: {}, fromNewest: {}", type, fromNewest);
+        if (boardServedFromIndex()) {
+            taskBoardIndex.findAll(type, fromNewest).forEach(consumer);
+            return;
+        }
+        try (Stream<TaskReadUpdate> tasks = taskRepo.streamFiltered(TaskFilter.board(type), fromNewest)) {
+            tasks.forEach(consumer);
         }
     }
 
     /**
-     * Retrieves all unassigned tasks of a specific type sorted by posted date.
+     * Retrieves all unassigned tasks sorted by posted date. Results are cached until a task changes.
+     *
+     * @param fromNewest Whether to sort tasks from newest to oldest.
+     * @return list of tasks.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskReadUpdate> findAllTaskBoardByPostedDate(boolean fromNewest){
+        log.info("Finding all tasks by posted date fromNewest: {}", fromNewest);
+        return readBoard(null, TaskBoardCache.boardKey(fromNewest),
+                () -> taskRepo.findFiltered(TaskFilter.board(null), fromNewest, null, null));
+    }
+
+    /**
+     * Retrieves all unassigned tasks of a specific type sorted by posted date. Results are cached until
+     * a task of the type changes.
      *
      * @param type       TaskType to filter tasks by.
      * @param fromNewest Whether to sort tasks from newest to oldest.
-     * @return Iterable of Task objects.
+     * @return list of tasks.
      */
     @Transactional(readOnly = true)
-    public List<Task> findAllTaskBoardByTypeAndPostedDate(TaskType type, boolean fromNewest) {
+    public List<TaskReadUpdate> findAllTaskBoardByTypeAndPostedDate(TaskType type, boolean fromNewest) {
         log.info("Finding all tasks by type: {} and posted date fromNewest: {}", type, fromNewest);
-        if (fromNewest) {
-            return taskRepo.findAllByTypeAndStatusFromNewest(type, TaskStatus.UNASSIGNED);
-        } else {
-            return taskRepo.findAllByTypeAndStatusFromOldest(type, TaskStatus.UNASSIGNED);
-        }
+        return readBoard(type, TaskBoardCache.boardKey(fromNewest),
+                () -> taskRepo.findFiltered(TaskFilter.board(type), fromNewest, null, null));
+    }
+
+    /**
+     * Retrieves one keyset page of unassigned tasks, optionally filtered by type, sorted by posted date.
+     * The page is located by seeking to the cursor position, so its cost does not depend on how deep
+     * into the board the cursor points. Pages are served from the task board index when it is loaded.
+     *
+     * @param type       TaskType to filter tasks by or {@code null} for all types.
+     * @param fromNewest Whether to sort tasks from newest to oldest.
+     * @param after      Cursor of the last task of the previous page, or {@code null}.
+     * @param before     Cursor of the first task of the following page, or {@code null}.
+     * @param limit      Maximal number of tasks in the page.
+     * @return the page of tasks in display order together with cursors of the neighbouring pages.
+     * @throws ValidationException if the limit is not positive or both cursors are given.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<TaskReadUpdate> findTaskBoardPage(TaskType type, boolean fromNewest, TaskBoardCursor after,
+                                                        TaskBoardCursor before, int limit) {
+        log.info("Finding task board page by type: {}, fromNewest: {}, after: {}, before: {}, limit: {}",
+                type, fromNewest, after, before, limit);
+        final TaskFilter filter = TaskFilter.board(type);
+        return findPage(fromNewest, after, before, limit, (descending, position, count) -> boardServedFromIndex()
+                ? taskBoardIndex.findSlice(type, descending, position, count)
+                : readBoard(type, TaskBoardCache.sliceKey(descending, position, count),
+                        () -> taskRepo.findFiltered(filter, descending, position, count)));
+    }
+
+    /**
+     * Retrieves one keyset page of tasks matching the filter, sorted by posted date.
+     *
+     * @param filter     Conditions the tasks have to match.
+     * @param fromNewest Whether to sort tasks from newest to oldest.
+     * @param after      Cursor of the last task of the previous page, or {@code null}.
+     * @param before     Cursor of the first task of the following page, or {@code null}.
+     * @param limit      Maximal number of tasks in the page.
+     * @return the page of tasks in display order together with cursors of the neighbouring pages.
+     * @throws ValidationException if the limit is not positive, both cursors are given or the filter is contradictory.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<TaskReadUpdate> findFilteredPage(TaskFilter filter, boolean fromNewest, TaskBoardCursor after,
+                                                       TaskBoardCursor before, int limit) {
+        log.info("Finding filtered tasks page by filter: {}, fromNewest: {}, after: {}, before: {}, limit: {}",
+                filter, fromNewest, after, before, limit);
+        if (filter.minPayment() != null && filter.maxPayment() != null && filter.minPayment() > filter.maxPayment())
+            throw new ValidationException("Minimal payment must not exceed maximal payment");
+        if (filter.deadlineAfter() != null && filter.deadlineBefore() != null && !filter.deadlineAfter().isBefore(filter.deadlineBefore()))
+            throw new ValidationException("Deadline window must not be empty");
+        return findPage(fromNewest, after, before, limit,
+                (descending, position, count) -> taskRepo.findFiltered(filter, descending, position, count));
+    }
+
+    /**
+     * Reads tasks following a position in the requested direction.
+     */
+    @FunctionalInterface
+    private interface SliceReader {
+
+        List<TaskReadUpdate> read(boolean descending, TaskBoardCursor position, int count);
+    }
+
+    /**
+     * Reads one keyset page of tasks sorted by posted date.
+     *
+     * @param fromNewest Whether to sort tasks from newest to oldest.
+     * @param after      Cursor of the last task of the previous page, or {@code null}.
+     * @param before     Cursor of the first task of the following page, or {@code null}.
+     * @param limit      Maximal number of tasks in the page.
+     * @param reader     Source of the tasks.
+     * @return the page of tasks in display order together with cursors of the neighbouring pages.
+     * @throws ValidationException if the limit is not positive or both cursors are given.
+     */
+    private KeysetPage<TaskReadUpdate> findPage(boolean fromNewest, TaskBoardCursor after, TaskBoardCursor before,
+                                                int limit, SliceReader reader) {
+        if (limit < 1) throw new ValidationException("Page limit must be positive");
+        if (after != null && before != null) throw new ValidationException("Only one of after and before cursors can be used");
+
+        final boolean backwards = before != null;
+        // Paging backwards through a newest-first list reads newer tasks in ascending order and vice versa
+        final boolean descending = fromNewest != backwards;
+        final TaskBoardCursor position = backwards ? before : after;
+        // One extra row tells whether there is another page behind this one
+        final List<TaskReadUpdate> rows = reader.read(descending, position, limit + 1);
+
+        final boolean hasMore = rows.size() > limit;
+        final List<TaskReadUpdate> tasks = new ArrayList<>(hasMore ? rows.subList(0, limit) : rows);
+        if (backwards) Collections.reverse(tasks);
+        if (tasks.isEmpty()) return new KeysetPage<>(tasks, null, null);
+
+        final String first = cursorOf(tasks.get(0)).encode();
+        final String last = cursorOf(tasks.get(tasks.size() - 1)).encode();
+        return backwards
+                ? new KeysetPage<>(tasks, last, hasMore ? first : null)
+                : new KeysetPage<>(tasks, hasMore ? last : null, after != null ? first : null);
+    }
+
+    /**
+     * Creates a task board cursor pointing at the given task.
+     *
+     * @param task Task to point at.
+     * @return the cursor.
+     */
+    private static TaskBoardCursor cursorOf(TaskReadUpdate task) {
+        return new TaskBoardCursor(task.getPostedDate(), task.getId());
+    }
+
+    /**
+     * Decides whether the board can be read from the index. A transaction that changed tasks reads the
+     * database, since the index learns about its changes only after the commit.
+     *
+     * @return true if the task board index is loaded and consistent with the current transaction.
+     */
+    private boolean boardServedFromIndex() {
+        return taskBoardIndex.isReady() && !clusterEventPublisher.hasPendingEvents();
+    }
+
+    /**
+     * Reads board tasks from the database through the task board cache. A transaction that changed tasks
+     * bypasses the cache, since the cached boards are cleared only after its commit.
+     *
+     * @param type  TaskType of the board or {@code null} for all types.
+     * @param key   Key of the query result within the board.
+     * @param query Reads the tasks from the database.
+     * @return list of tasks.
+     */
+    private List<TaskReadUpdate> readBoard(TaskType type, String key, Supplier<List<TaskReadUpdate>> query) {
+        if (clusterEventPublisher.hasPendingEvents()) return query.get();
+        return taskBoardCache.get(type, key, query);
+    }
+
+    /**
+     * Evicts the cached lists of tasks posted by the customer and taken by the freelancer of the task
+     * once the transaction commits.
+     *
+     * @param task the changed task.
+     */
+    private void evictTaskLists(Task task) {
+        taskListCache.evictAfterCommit(task.getCustomer() == null ? null : task.getCustomer().getId(),
+                task.getFreelancer() == null ? null : task.getFreelancer().getId());
+    }
+
+    /**
+     * Announces a new task to all application instances once the transaction commits.
+     *
+     * @param task the created task.
+     */
+    private void publishCreation(Task task) {
+        publishChange(new TaskChange(task.getId(), mapper.toTaskReadUpdate(task), task.getType()));
+    }
+
+    /**
+     * Announces the current state of the task to all application instances once the transaction commits.
+     *
+     * @param task the changed task, whose type did not change.
+     */
+    private void publishChange(Task task) {
+        publishChange(task, task.getType());
+    }
+
+    /**
+     * Increments the change version of the task and announces its current state to all application instances
+     * once the transaction commits.
+     *
+     * @param task         the changed task.
+     * @param previousType the type of the task before the change.
+     */
+    private void publishChange(Task task, TaskType previousType) {
+        final long version = taskRepo.incrementChangeVersion(task.getId()).orElse(TaskChange.CREATED);
+        publishChange(new TaskChange(task.getId(), mapper.toTaskReadUpdate(task), previousType, version));
+    }
+
+    /**
+     * Bumps the versions of the task and its boards, clears the cached boards and announces the change once
+     * the transaction commits.
+     *
+     * @param change the change of the task.
+     */
+    private void publishChange(TaskChange change) {
+        resourceVersions.taskChanged(change);
+        taskBoardCache.clearAfterCommit(change);
+        clusterEventPublisher.publish(change);
+    }
+
+    /**
+     * Searches tasks by their title and problem and returns one keyset page of results ordered by relevance.
+     *
+     * @param query  Full-text query in web search syntax.
+     * @param type   TaskType to filter tasks by or {@code null} for all types.
+     * @param status TaskStatus to filter tasks by or {@code null} for all statuses.
+     * @param after  Cursor of the last task of the previous page, or {@code null}.
+     * @param limit  Maximal number of tasks in the page.
+     * @return the page of matching tasks together with the cursor of the next page.
+     * @throws ValidationException if the query is blank or the limit is not positive.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<TaskReadUpdate> search(String query, TaskType type, TaskStatus status, TaskSearchCursor after, int limit) {
+        log.info("Searching tasks by query: {}, type: {}, status: {}, after: {}, limit: {}", query, type, status, after, limit);
+        if (query == null || query.isBlank()) throw new ValidationException("Search query must not be blank");
+        if (limit < 1) throw new ValidationException("Page limit must be positive");
+
+        final List<TaskSearchHit> hits = taskRepo.search(query,
+                Optional.ofNullable(type).map(Enum::name).orElse(null),
+                Optional.ofNullable(status).map(Enum::name).orElse(null),
+                Optional.ofNullable(after).map(TaskSearchCursor::rank).orElse(null),
+                Optional.ofNullable(after).map(TaskSearchCursor::id).orElse(null),
+                limit + 1);
+        final boolean hasMore = hits.size() > limit;
+        final List<TaskSearchHit> page = hasMore ? hits.subList(0, limit) : hits;
+        if (page.isEmpty()) return new KeysetPage<>(List.of(), null, null);
+
+        final Map<Integer, TaskReadUpdate> rows = taskRepo.findAllByIdIn(page.stream().map(TaskSearchHit::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(TaskReadUpdate::getId, Function.identity()));
+        final List<TaskReadUpdate> tasks = page.stream()
+                .map(hit -> rows.get(hit.getId()))
+                .filter(Objects::nonNull)
+                .toList();
+        final TaskSearchHit last = page.get(page.size() - 1);
+        return new KeysetPage<>(tasks, hasMore ? new TaskSearchCursor(last.getRank(), last.getId()).encode() : null, null);
     }
 
     /**
@@ -126,16 +585,12 @@ public class TaskService implements IService<Task, Integer>{
      *
      * @param userId ID of the user (freelancer) who took the tasks.
      * @param expired Whether to include expired tasks.
-     * @return Iterable of Task objects.
+     * @return list of tasks.
      */
     @Transactional(readOnly = true)
-    public List<Task> findAllTakenByUserIdAndDeadlineStatus(Integer userId, boolean expired){
+    public List<TaskReadUpdate> findAllTakenByUserIdAndDeadlineStatus(Integer userId, boolean expired){
         log.info("Finding all taken tasks by user id: {} and deadline status is expired: {}", userId, expired);
-        if (expired){
-            return taskRepo.findAllTakenByFreelancerIdDeadlineExpired(userId);
-        } else {
-            return taskRepo.findAllTakenByFreelancerIdDeadlineNotExpired(userId);
-        }
+        return findTaken(userId, null, expired);
     }
 
     /**
@@ -144,15 +599,27 @@ public class TaskService implements IService<Task, Integer>{
      * @param userId     ID of the user (freelancer) who took the tasks.
      * @param taskStatus TaskStatus to filter tasks by.
      * @param expired    Whether to include expired tasks.
-     * @return Iterable of Task objects.
+     * @return list of tasks.
      */
     @Transactional(readOnly = true)
-    public List<Task> findAllTakenByUserIdAndStatusAndDeadlineStatus(Integer userId, TaskStatus taskStatus, boolean expired){
+    public List<TaskReadUpdate> findAllTakenByUserIdAndStatusAndDeadlineStatus(Integer userId, TaskStatus taskStatus, boolean expired){
         log.info("Finding all taken tasks by user id: {}, task status: {} and deadline status is expired: {}", userId, taskStatus, expired);
-        if (expired){
-            return taskRepo.findAllTakenByFreelancerIdAndStatusDeadlineExpired(userId, taskStatus);
-        } else {
-            return taskRepo.findAllTakenByFreelancerIdAndStatusDeadlineNotExpired(userId, taskStatus);
+        return findTaken(userId, taskStatus, expired);
+    }
+
+    /**
+     * Passes all tasks taken by a user to the consumer one task at a time.
+     *
+     * @param userId     ID of the user (freelancer) who took the tasks.
+     * @param taskStatus TaskStatus to filter tasks by or {@code null} for all statuses.
+     * @param expired    Whether to include expired tasks.
+     * @param consumer   Receiver of the tasks.
+     */
+    @Transactional(readOnly = true)
+    public void streamAllTakenByUserId(Integer userId, TaskStatus taskStatus, boolean expired, Consumer<TaskReadUpdate> consumer) {
+        log.info("Streaming all taken tasks by user id: {}, task status: {} and deadline status is expired: {}", userId, taskStatus, expired);
+        try (Stream<TaskReadUpdate> tasks = taskRepo.streamFiltered(takenFilter(userId, taskStatus, expired, LocalDateTime.now()), true)) {
+            tasks.forEach(consumer);
         }
     }
 
@@ -161,16 +628,12 @@ public class TaskService implements IService<Task, Integer>{
      *
      * @param userId  ID of the user (customer) who posted the tasks.
      * @param expired Whether to include expired tasks.
-     * @return Iterable of Task objects.
+     * @return list of tasks.
      */
     @Transactional(readOnly = true)
-    public List<Task> findAllPostedByUserIdAndExpiredStatus(Integer userId, boolean expired){
+    public List<TaskReadUpdate> findAllPostedByUserIdAndExpiredStatus(Integer userId, boolean expired){
         log.info("Finding all posted tasks by user id: {} and deadline status is expired: {}", userId, expired);
-        if (expired){
-            return taskRepo.findAllPostedByCustomerIdDeadlineExpired(userId);
-        } else {
-            return taskRepo.findAllPostedByCustomerIdDeadlineNotExpired(userId);
-        }
+        return findPosted(userId, null, expired);
     }
 
     /**
@@ -179,18 +642,96 @@ public class TaskService implements IService<Task, Integer>{
      * @param userId     ID of the user (customer) who posted the tasks.
      * @param taskStatus TaskStatus to filter tasks by.
      * @param expired    Whether to include expired tasks.
-     * @return Iterable of Task objects.
+     * @return list of tasks.
      */
     @Transactional(readOnly = true)
-    public List<Task> findAllPostedByUserIdAndStatusAndExpiredStatus(Integer userId, TaskStatus taskStatus , boolean expired){
+    public List<TaskReadUpdate> findAllPostedByUserIdAndStatusAndExpiredStatus(Integer userId, TaskStatus taskStatus , boolean expired){
         log.info("Finding all posted tasks by user id: {}, task status: {} and deadline status is expired: {}", userId, taskStatus, expired);
-        if (expired){
-            return taskRepo.findAllPostedByCustomerIdAndStatusDeadlineExpired(userId, taskStatus);
-        } else {
-            return taskRepo.findAllPostedByCustomerIdAndStatusDeadlineNotExpired(userId, taskStatus);
+        return findPosted(userId, taskStatus, expired);
+    }
+
+    /**
+     * Passes all tasks posted by a user to the consumer one task at a time.
+     *
+     * @param userId     ID of the user (customer) who posted the tasks.
+     * @param taskStatus TaskStatus to filter tasks by or {@code null} for all statuses.
+     * @param expired    Whether to include expired tasks.
+     * @param consumer   Receiver of the tasks.
+     */
+    @Transactional(readOnly = true)
+    public void streamAllPostedByUserId(Integer userId, TaskStatus taskStatus, boolean expired, Consumer<TaskReadUpdate> consumer) {
+        log.info("Streaming all posted tasks by user id: {}, task status: {} and deadline status is expired: {}", userId, taskStatus, expired);
+        try (Stream<TaskReadUpdate> tasks = taskRepo.streamFiltered(postedFilter(userId, taskStatus, expired, LocalDateTime.now()), true)) {
+            tasks.forEach(consumer);
         }
     }
 
+    /**
+     * Reads tasks taken by a freelancer through the task list cache. A transaction that changed tasks
+     * bypasses the cache, since the cached lists are evicted only after its commit.
+     *
+     * @param userId     ID of the freelancer.
+     * @param taskStatus TaskStatus to filter tasks by or {@code null} for all statuses.
+     * @param expired    Whether to select tasks with expired deadlines or with deadlines that have not expired.
+     * @return list of tasks.
+     */
+    private List<TaskReadUpdate> findTaken(Integer userId, TaskStatus taskStatus, boolean expired) {
+        if (clusterEventPublisher.hasPendingEvents()) {
+            return taskRepo.findFiltered(takenFilter(userId, taskStatus, expired, LocalDateTime.now()), true, null, null);
+        }
+        return taskListCache.getTaken(userId, taskStatus, expired,
+                deadline -> taskRepo.findFiltered(takenFilter(userId, taskStatus, expired, deadline), true, null, null));
+    }
+
+    /**
+     * Reads tasks posted by a customer through the task list cache. A transaction that changed tasks
+     * bypasses the cache, since the cached lists are evicted only after its commit.
+     *
+     * @param userId     ID of the customer.
+     * @param taskStatus TaskStatus to filter tasks by or {@code null} for all statuses.
+     * @param expired    Whether to select tasks with expired deadlines or with deadlines that have not expired.
+     * @return list of tasks.
+     */
+    private List<TaskReadUpdate> findPosted(Integer userId, TaskStatus taskStatus, boolean expired) {
+        if (clusterEventPublisher.hasPendingEvents()) {
+            return taskRepo.findFiltered(postedFilter(userId, taskStatus, expired, LocalDateTime.now()), true, null, null);
+        }
+        return taskListCache.getPosted(userId, taskStatus, expired,
+                deadline -> taskRepo.findFiltered(postedFilter(userId, taskStatus, expired, deadline), true, null, null));
+    }
+
+    /**
+     * Creates a filter selecting tasks taken by a freelancer.
+     *
+     * @param userId     ID of the freelancer.
+     * @param taskStatus TaskStatus to filter tasks by or {@code null} for all statuses.
+     * @param expired    Whether to select tasks with expired deadlines or with deadlines that have not expired.
+     * @param deadline   Time the deadlines are compared with.
+     * @return the filter.
+     */
+    private static TaskFilter takenFilter(Integer userId, TaskStatus taskStatus, boolean expired, LocalDateTime deadline) {
+        return deadlineFilter(expired, deadline).freelancerId(userId).status(taskStatus).build();
+    }
+
+    /**
+     * Creates a filter selecting tasks posted by a customer.
+     *
+     * @param userId     ID of the customer.
+     * @param taskStatus TaskStatus to filter tasks by or {@code null} for all statuses.
+     * @param expired    Whether to select tasks with expired deadlines or with deadlines that have not expired.
+     * @param deadline   Time the deadlines are compared with.
+     * @return the filter.
+     */
+    private static TaskFilter postedFilter(Integer userId, TaskStatus taskStatus, boolean expired, LocalDateTime deadline) {
+        return deadlineFilter(expired, deadline).customerId(userId).status(taskStatus).build();
+    }
+
+    private static TaskFilter.TaskFilterBuilder deadlineFilter(boolean expired, LocalDateTime deadline) {
+        return expired
+                ? TaskFilter.builder().deadlineBefore(deadline)
+                : TaskFilter.builder().deadlineAfter(deadline);
+    }
+
     /**
      * Retrieves all tasks from the repository.
      *
@@ -222,17 +763,22 @@ public class TaskService implements IService<Task, Integer>{
      * @throws NotFoundException  if the task to update is not found.
      */
     @Transactional
-    @CachePut(key = "#task.id")
+    @CacheEvict(key = "#task.id")
     public Task update(Task task){
         log.info("Updating task with id {}", task.getId());
         Objects.requireNonNull(task);
-        if (exists(task.getId())) {
-            if (!task.getStatus().equals(TaskStatus.UNASSIGNED))
-                throw new ValidationException("Task can be updated only if it is unassigned");
-            return taskRepo.save(task);
-        } else {
-            throw new NotFoundException("Task to update identified by " + task.getId() + " not found.");
-        }
+        final TaskType previousType = taskRepo.findTypeById(task.getId()).orElseGet(() -> {
+            // a task inserted by this transaction is not stored before the flush and has no previous type
+            if (!taskRepo.existsById(task.getId()))
+                throw new NotFoundException("Task to update identified by " + task.getId() + " not found.");
+            return null;
+        });
+        if (!task.getStatus().equals(TaskStatus.UNASSIGNED))
+            throw new ValidationException("Task can be updated only if it is unassigned");
+        final Task updated = taskRepo.save(task);
+        evictTaskLists(updated);
+        publishChange(updated, previousType);
+        return updated;
     }
 
     /**
@@ -257,6 +803,8 @@ public class TaskService implements IService<Task, Integer>{
                     }
                     userRepo.save(task.getCustomer());
                     taskRepo.delete(task);
+                    evictTaskLists(task);
+                    publishChange(TaskChange.deleted(id, task.getType()));
                     return true;
                 }).orElse(false);
     }
@@ -268,7 +816,7 @@ public class TaskService implements IService<Task, Integer>{
      * @param freelancer User object representing the freelancer to assign.
      */
     @Transactional
-    @CachePut(key = "#task.id")
+    @CacheEvict(key = "#task.id")
     public Task assignFreelancer(Task task, User freelancer){
         log.info("Assigning freelancer with id {} to task with id: {}", freelancer.getId(), task.getId());
         Objects.requireNonNull(task);
@@ -279,6 +827,8 @@ public class TaskService implements IService<Task, Integer>{
         freelancer.addTaskToTaken(task);
         taskRepo.save(task);
         userRepo.save(freelancer);
+        evictTaskLists(task);
+        publishChange(task);
         taskChangesProducer.sendMessage(taskChangesProducer.toJsonString(task), FreelancerAssigned);
 
         return task;
@@ -290,13 +840,15 @@ public class TaskService implements IService<Task, Integer>{
      * @param task Task object to accept a solution for.
      */
     @Transactional
-    @CachePut(key = "#task.id")
+    @CacheEvict(key = "#task.id")
     public Task accept(Task task){
         log.info("Accepting task with id {}", task.getId());
         Objects.requireNonNull(task);
         Objects.requireNonNull(task.getSolution());
         task.setStatus(TaskStatus.ACCEPTED);
         taskRepo.save(task);
+        evictTaskLists(task);
+        publishChange(task);
         taskChangesProducer.sendMessage(taskChangesProducer.toJsonString(task), TaskAccepted);
 
         return task;
@@ -308,7 +860,7 @@ public class TaskService implements IService<Task, Integer>{
      * @param task Task object to remove the freelancer from.
      */
     @Transactional
-    @CachePut(key = "#task.id")
+    @CacheEvict(key = "#task.id")
     public Task removeFreelancer(Task task){
         final User freelancer = task.getFreelancer();
         log.info("Removing freelancer with id {} from task with id {}", freelancer.getId(), task.getId());
@@ -321,6 +873,8 @@ public class TaskService implements IService<Task, Integer>{
         task.setAssignedDate(null);
         task.setSubmittedDate(null);
         taskRepo.save(task);
+        taskListCache.evictAfterCommit(task.getCustomer().getId(), freelancer.getId());
+        publishChange(task);
 
         return task;
     }
@@ -332,7 +886,7 @@ public class TaskService implements IService<Task, Integer>{
      * @param solution Solution object to attach.
      */
     @Transactional
-    @CachePut(key = "#taskId")
+    @CacheEvict(key = "#taskId")
     public Task attachSolution(Integer taskId, Solution solution){
         log.info("Attaching solution with id {} to task with id {}", solution.getId(), taskId);
         Task task = taskRepo.findById(taskId).orElse(null);
@@ -354,12 +908,14 @@ public class TaskService implements IService<Task, Integer>{
      * @param task Task object to send for review.
      */
     @Transactional
-    @CachePut(key = "#task.id")
+    @CacheEvict(key = "#task.id")
     public Task senOnReview(Task task){
         log.info("Sending task with id {} on review", task.getId());
         task.setStatus(TaskStatus.SUBMITTED);
         task.setSubmittedDate(LocalDateTime.now());
         taskRepo.save(task);
+        evictTaskLists(task);
+        publishChange(task);
         taskChangesProducer.sendMessage(taskChangesProducer.toJsonString(task), TaskSendOnReview);
 
         return task;
@@ -4,6 +4,10 @@ import freelanceplatform.data.ProposalRepository;
 import freelanceplatform.data.ResumeRepository;
 import freelanceplatform.data.UserRepository;
 import freelanceplatform.dto.Mapper;
+import freelanceplatform.dto.readUpdate.UserReadUpdate;
+import freelanceplatform.dto.snapshot.UserSnapshot;
+import freelanceplatform.events.ClusterEventPublisher;
+import freelanceplatform.events.UserChange;
 import freelanceplatform.exceptions.NotFoundException;
 import freelanceplatform.exceptions.ValidationException;
 import freelanceplatform.kafka.ChangesProducer;
@@ -11,20 +15,29 @@ import freelanceplatform.kafka.topics.UserChangesTopic;
 import freelanceplatform.model.Proposal;
 import freelanceplatform.model.Resume;
 import freelanceplatform.model.User;
+import freelanceplatform.services.blob.BlobContent;
+import freelanceplatform.services.blob.BlobStore;
+import freelanceplatform.services.blob.StoredBlob;
+import freelanceplatform.services.cache.NotFoundMarkers;
+import freelanceplatform.services.versions.ResourceVersions;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static freelanceplatform.kafka.topics.UserChangesTopic.*;
 
@@ -40,16 +53,26 @@ public class UserService implements IService<User, Integer> {
     private final ProposalRepository proposalRepository;
     private final PasswordEncoder passwordEncoder;
     private final ChangesProducer<UserChangesTopic> userChangesProducer;
+    private final ClusterEventPublisher clusterEventPublisher;
+    private final NotFoundMarkers notFoundMarkers;
+    private final BlobStore blobStore;
+    private final ResourceVersions resourceVersions;
     private final Mapper mapper;
 
     @Autowired
     public UserService(UserRepository userRepository, ResumeRepository resumeRepository, ProposalRepository proposalRepository,
-                       PasswordEncoder passwordEncoder, ChangesProducer<UserChangesTopic> userChangesProducer, @Lazy Mapper mapper) {
+                       PasswordEncoder passwordEncoder, ChangesProducer<UserChangesTopic> userChangesProducer,
+                       ClusterEventPublisher clusterEventPublisher, NotFoundMarkers notFoundMarkers, BlobStore blobStore,
+                       ResourceVersions resourceVersions, @Lazy Mapper mapper) {
         this.userRepository = userRepository;
         this.resumeRepository = resumeRepository;
         this.proposalRepository = proposalRepository;
         this.passwordEncoder = passwordEncoder;
         this.userChangesProducer = userChangesProducer;
+        this.clusterEventPublisher = clusterEventPublisher;
+        this.notFoundMarkers = notFoundMarkers;
+        this.blobStore = blobStore;
+        this.resourceVersions = resourceVersions;
         this.mapper = mapper;
     }
 
@@ -59,13 +82,48 @@ public class UserService implements IService<User, Integer> {
      * @return user
      */
     @Transactional
-    @Cacheable
     public Optional<User> findById(Integer id) {
         Objects.requireNonNull(id);
         log.info("Finding user by id {}", id);
-        Optional<User> userOptional = userRepository.findById(id);
-        if (userOptional.isEmpty()) throw new NotFoundException("User with id " + id + " not found");
-        return userOptional;
+        if (!notFoundMarkers.isMissing("users", id)) {
+            final Optional<User> userOptional = userRepository.findById(id);
+            if (userOptional.isPresent()) return userOptional;
+            notFoundMarkers.markMissing("users", id);
+        }
+        throw new NotFoundException("User with id " + id + " not found");
+    }
+
+    /**
+     * Retrieves the read-only snapshot of a user by its ID, from the cache when possible.
+     * Cache entries are evicted by every change of the user.
+     *
+     * @param id ID of the user to retrieve.
+     * @return the snapshot of the user if found.
+     * @throws NotFoundException if the user with the specified ID is not found.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(sync = true)
+    public Optional<UserSnapshot> findSnapshotById(Integer id) {
+        Objects.requireNonNull(id);
+        log.info("Finding user snapshot by id {}", id);
+        if (!notFoundMarkers.isMissing("users", id)) {
+            final Optional<UserSnapshot> snapshot = userRepository.findSnapshotById(id);
+            if (snapshot.isPresent()) return snapshot;
+            notFoundMarkers.markMissing("users", id);
+        }
+        throw new NotFoundException("User with id " + id + " not found");
+    }
+
+    /**
+     * Retrieves the read-only snapshots of users by their IDs with one query, bypassing the cache.
+     *
+     * @param ids IDs of the users to retrieve.
+     * @return the snapshots of the users found, in no particular order.
+     */
+    @Transactional(readOnly = true)
+    public List<UserSnapshot> findSnapshotsByIds(Collection<Integer> ids) {
+        log.info("Finding {} user snapshots by id", ids.size());
+        return userRepository.findSnapshotsByIdIn(ids);
     }
 
     /**
@@ -106,12 +164,24 @@ public class UserService implements IService<User, Integer> {
         return userRepository.findAll();
     }
 
+    /**
+     * Passes all users to the consumer one by one without loading them into memory at once
+     * @param consumer receiver of the users
+     */
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<UserReadUpdate> consumer) {
+        log.info("Streaming all users");
+        try (Stream<UserReadUpdate> users = userRepository.streamAll()) {
+            users.forEach(consumer);
+        }
+    }
+
     /**
      * Saves the user
      * @param user to save
      */
     @Transactional
-    @CachePut(key = "#user.id")
+    @CacheEvict(key = "#user.id")
     public User save(User user){
         Objects.requireNonNull(user);
         log.info("Saving user with id {}", user.getId());
@@ -123,6 +193,8 @@ public class UserService implements IService<User, Integer> {
         }
         user.encodePassword(passwordEncoder);
         userRepository.save(user);
+        notFoundMarkers.markPresentAfterCommit("users", user.getId());
+        publishChange(user.getId());
         userChangesProducer.sendMessage(mapper.convertUserToJson(user), UserCreated);
 
         return user;
@@ -134,7 +206,7 @@ public class UserService implements IService<User, Integer> {
      * @return updated user
      */
     @Transactional
-    @CachePut(key = "#user.id")
+    @CacheEvict(key = "#user.id")
     public User update(User user){
         Objects.requireNonNull(user);
         log.info("Updating user with id {}", user.getId());
@@ -142,6 +214,7 @@ public class UserService implements IService<User, Integer> {
             user.encodePassword(passwordEncoder);
             System.out.println(user);
             userChangesProducer.sendMessage(mapper.convertUserToJson(user), UserUpdated);
+            publishChange(user.getId());
             return userRepository.save(user);
         } else {
             throw new NotFoundException("User with id " + user.getId() + " not found");
@@ -160,6 +233,7 @@ public class UserService implements IService<User, Integer> {
         return userRepository.findById(id)
                 .map(user -> {
                     userRepository.delete(user);
+                    publishChange(id);
                     userChangesProducer.sendMessage(mapper.convertUserToJson(user), UserDeleted);
                     return true;
                 }).orElse(false);
@@ -177,21 +251,27 @@ public class UserService implements IService<User, Integer> {
     }
 
     /**
-     * Saves user's resume
+     * Saves user's resume. The content is streamed to the blob store before the resume is saved, so no
+     * transaction is held open while it is uploaded.
      * @param filename resume name
-     * @param content resume content
+     * @param contentType media type of the content, or {@code null} if unknown
+     * @param content resume content, read to its end
      * @param user user to add this resume
+     * @throws IOException if the content cannot be read or stored
      */
-    @Transactional
-    public void saveResume(String filename, byte[] content, User user) {
+    public void saveResume(String filename, String contentType, InputStream content, User user) throws IOException {
         Objects.requireNonNull(filename);
         Objects.requireNonNull(content);
         Objects.requireNonNull(user);
         log.info("Saving resume for user with id {}", user.getId());
-        if (content.length == 0 || filename.equals("")) throw new ValidationException("Bad inputs");
+        if (filename.isBlank()) throw new ValidationException("Bad inputs");
+        final StoredBlob blob = blobStore.put(content);
+        if (blob.size() == 0) throw new ValidationException("Bad inputs");
         Resume resume = new Resume();
         resume.setFilename(filename);
-        resume.setContent(content);
+        resume.setContentHash(blob.key());
+        resume.setSize(blob.size());
+        resume.setContentType(contentType);
         resume.setUser(user);
         resumeRepository.save(resume);
     }
@@ -201,7 +281,7 @@ public class UserService implements IService<User, Integer> {
      * @param user whose resume to find
      * @return resume
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public Resume getUsersResume(User user) {
         Objects.requireNonNull(user);
         log.info("Retrieving user resume for user with id {}", user.getId());
@@ -209,4 +289,25 @@ public class UserService implements IService<User, Integer> {
         if (resume.isEmpty()) throw new NotFoundException("Resume for user with id " + user.getId() + " not found");
         return resume.get();
     }
+
+    /**
+     * Opens the content of a resume. The returned content has to be closed.
+     * @param resume resume whose content to open
+     * @return the content
+     * @throws IOException if the content cannot be opened
+     */
+    public BlobContent openResumeContent(Resume resume) throws IOException {
+        Objects.requireNonNull(resume);
+        final Optional<BlobContent> content = resume.getContentHash() == null ? Optional.empty() : blobStore.get(resume.getContentHash());
+        return content.orElseThrow(() -> new NotFoundException("Content of resume with id " + resume.getId() + " not found"));
+    }
+
+    /**
+     * Bumps the version of the user and announces the change once the transaction commits.
+     * @param id id of the changed user
+     */
+    private void publishChange(Integer id) {
+        resourceVersions.userChanged(id);
+        clusterEventPublisher.publish(new UserChange(id));
+    }
 }
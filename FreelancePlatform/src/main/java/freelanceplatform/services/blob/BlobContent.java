@@ -0,0 +1,38 @@
+package freelanceplatform.services.blob;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Open content of a {@link BlobStore}, read by copying byte ranges of it to a channel.
+ */
+public interface BlobContent extends Closeable {
+
+    /**
+     * @return size of the content in bytes
+     * @throws IOException if the size cannot be read
+     */
+    long size() throws IOException;
+
+    /**
+     * Copies a range of the content to a channel.
+     *
+     * @param position offset of the first byte to copy
+     * @param count    number of bytes to copy
+     * @param target   the channel to copy to
+     * @throws IOException if the content cannot be read or the channel written
+     */
+    void transferTo(long position, long count, WritableByteChannel target) throws IOException;
+
+    /**
+     * Returns the local file holding the content, for servers that can send files to the client themselves.
+     *
+     * @return the file, or an empty optional if the content is not a local file
+     */
+    default Optional<Path> file() {
+        return Optional.empty();
+    }
+}
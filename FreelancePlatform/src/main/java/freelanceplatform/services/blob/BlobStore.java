@@ -0,0 +1,30 @@
+package freelanceplatform.services.blob;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Store of immutable binary contents kept outside the database, addressed by a key derived from the content.
+ * Storing the same content twice keeps one copy and returns the same key.
+ */
+public interface BlobStore {
+
+    /**
+     * Stores a content, reading it to its end. The stream is not closed.
+     *
+     * @param content the content
+     * @return the key and size of the stored content
+     * @throws IOException if the content cannot be read or stored
+     */
+    StoredBlob put(InputStream content) throws IOException;
+
+    /**
+     * Opens a stored content for reading. The returned content has to be closed.
+     *
+     * @param key key returned when the content was stored
+     * @return the content, or an empty optional if there is none with the key
+     * @throws IOException if the content cannot be opened
+     */
+    Optional<BlobContent> get(String key) throws IOException;
+}
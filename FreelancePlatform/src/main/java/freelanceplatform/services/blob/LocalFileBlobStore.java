@@ -0,0 +1,124 @@
+package freelanceplatform.services.blob;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Blob store keeping each content in a file named by the SHA-256 hash of the content, under a directory named
+ * by the first two characters of the hash.
+ *
+ * <p>A content is streamed to a temporary file while it is hashed, synced to disk and then renamed to its
+ * final name, so a file with a hash name is always complete. A content that is already stored only costs
+ * the upload. Files are read through {@link FileChannel}s, which copy to sockets without passing the bytes
+ * through the heap.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.blob-store.type", havingValue = "local", matchIfMissing = true)
+public class LocalFileBlobStore implements BlobStore {
+
+    private static final Pattern KEY = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+    private final Path incoming;
+
+    public LocalFileBlobStore(@Value("${app.blob-store.local.root:blobs}") Path root) throws IOException {
+        this.root = root.toAbsolutePath();
+        this.incoming = Files.createDirectories(this.root.resolve("incoming"));
+    }
+
+    @Override
+    public StoredBlob put(InputStream content) throws IOException {
+        final MessageDigest digest = sha256();
+        final Path temporary = Files.createTempFile(incoming, "blob", ".tmp");
+        try {
+            final long size;
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                size = new DigestInputStream(content, digest).transferTo(Channels.newOutputStream(channel));
+                channel.force(false);
+            }
+            final String key = HexFormat.of().formatHex(digest.digest());
+            final Path file = file(key);
+            if (Files.exists(file)) {
+                log.debug("Blob {} is already stored", key);
+            } else {
+                Files.createDirectories(file.getParent());
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+            }
+            return new StoredBlob(key, size);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    @Override
+    public Optional<BlobContent> get(String key) throws IOException {
+        final Path file = file(key);
+        try {
+            return Optional.of(new FileContent(file, FileChannel.open(file, StandardOpenOption.READ)));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Path file(String key) {
+        if (key == null || !KEY.matcher(key).matches()) throw new IllegalArgumentException("Malformed blob key " + key);
+        return root.resolve(key.substring(0, 2)).resolve(key);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record FileContent(Path path, FileChannel channel) implements BlobContent {
+
+        @Override
+        public long size() throws IOException {
+            return channel.size();
+        }
+
+        @Override
+        public void transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            long transferred = 0;
+            while (transferred < count) {
+                final long chunk = channel.transferTo(position + transferred, count - transferred, target);
+                if (chunk <= 0) throw new EOFException("Blob " + path.getFileName() + " ended after " + (position + transferred) + " bytes");
+                transferred += chunk;
+            }
+        }
+
+        @Override
+        public Optional<Path> file() {
+            return Optional.of(path);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
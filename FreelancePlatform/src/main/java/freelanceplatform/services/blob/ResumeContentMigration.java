@@ -0,0 +1,57 @@
+package freelanceplatform.services.blob;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Moves resume contents stored in the {@code resume.content} column by earlier versions to the blob store,
+ * one resume at a time, and clears the column. Instances starting together may move the same resume, which
+ * stores the same blob twice and is harmless.
+ */
+@Slf4j
+@Component
+public class ResumeContentMigration {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlobStore blobStore;
+
+    public ResumeContentMigration(JdbcTemplate jdbcTemplate, BlobStore blobStore) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.blobStore = blobStore;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        final Boolean legacy = jdbcTemplate.queryForObject("""
+                SELECT EXISTS (SELECT 1 FROM information_schema.columns
+                               WHERE lower(table_name) = 'resume' AND lower(column_name) = 'content')""", Boolean.class);
+        if (!Boolean.TRUE.equals(legacy)) return;
+        final List<Integer> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM resume WHERE content IS NOT NULL AND content_hash IS NULL", Integer.class);
+        if (ids.isEmpty()) return;
+        log.info("Moving contents of {} resumes to the blob store", ids.size());
+        for (Integer id : ids) {
+            final StoredBlob blob = jdbcTemplate.query("SELECT content FROM resume WHERE id = ?",
+                    result -> result.next() ? put(result.getBinaryStream(1)) : null, id);
+            if (blob == null) continue;
+            jdbcTemplate.update("UPDATE resume SET content_hash = ?, size = ?, content = NULL WHERE id = ? AND content_hash IS NULL",
+                    blob.key(), blob.size(), id);
+        }
+    }
+
+    private StoredBlob put(InputStream content) {
+        try (content) {
+            return blobStore.put(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
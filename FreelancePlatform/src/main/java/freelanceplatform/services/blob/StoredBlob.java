@@ -0,0 +1,10 @@
+package freelanceplatform.services.blob;
+
+/**
+ * Content kept by a {@link BlobStore}.
+ *
+ * @param key  key the content is read by, the same for equal contents
+ * @param size size of the content in bytes
+ */
+public record StoredBlob(String key, long size) {
+}
@@ -0,0 +1,134 @@
+package freelanceplatform.services.board;
+
+import freelanceplatform.dto.paging.TaskBoardCursor;
+import freelanceplatform.dto.readUpdate.TaskReadUpdate;
+import freelanceplatform.events.TaskChange;
+import freelanceplatform.model.TaskType;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Cache of task board query results read from the database, used when the board cannot be served by the
+ * {@link TaskBoardIndex}.
+ *
+ * <p>The board of all types and the board of every {@link TaskType} have a cache of their own, keyed by sort
+ * order and page. A {@link TaskChange} clears the global board and the boards of the types the task had before
+ * and after the change, so boards of other types stay cached. Changes of an unknown previous type clear every
+ * board.
+ *
+ * <p>The caches are shared by all instances, so they are cleared once by the instance that committed the
+ * changes and not by every instance receiving them. All changes of one transaction clear each affected board
+ * once after the commit, so an import of many tasks does not clear the boards for every task.
+ */
+@Component
+public class TaskBoardCache {
+
+    public static final String CACHE_NAME = "taskBoard";
+
+    private final Cache board;
+    private final Map<TaskType, Cache> boardByType = new EnumMap<>(TaskType.class);
+
+    public TaskBoardCache(CacheManager cacheManager) {
+        this.board = Objects.requireNonNull(cacheManager.getCache(CACHE_NAME));
+        Arrays.stream(TaskType.values()).forEach(type ->
+                boardByType.put(type, Objects.requireNonNull(cacheManager.getCache(cacheName(type)))));
+    }
+
+    /**
+     * Returns the name of the cache holding the board of the given type.
+     *
+     * @param type type of the board or {@code null} for the board of all types
+     * @return the cache name
+     */
+    public static String cacheName(TaskType type) {
+        return type == null ? CACHE_NAME : CACHE_NAME + "-" + type.name();
+    }
+
+    /**
+     * Returns the key of the whole board in the given order.
+     *
+     * @param fromNewest whether the board is sorted from newest to oldest
+     * @return the cache key
+     */
+    public static String boardKey(boolean fromNewest) {
+        return fromNewest ? "newest" : "oldest";
+    }
+
+    /**
+     * Returns the key of a board slice read from the given position.
+     *
+     * @param descending whether the slice is read from newer to older tasks
+     * @param position   position the slice is read from, exclusive, or {@code null} for the start
+     * @param count      maximal number of tasks in the slice
+     * @return the cache key
+     */
+    public static String sliceKey(boolean descending, TaskBoardCursor position, int count) {
+        return boardKey(descending) + ":" + (position == null ? "" : position.encode()) + ":" + count;
+    }
+
+    /**
+     * Returns cached board tasks or loads them. Concurrent misses of one key are loaded once.
+     *
+     * @param type   type of the board or {@code null} for the board of all types
+     * @param key    key of the query result
+     * @param loader reads the tasks from the database
+     * @return the tasks
+     */
+    public List<TaskReadUpdate> get(TaskType type, String key, Supplier<List<TaskReadUpdate>> loader) {
+        return (type == null ? board : boardByType.get(type)).get(key, () -> new ArrayList<>(loader.get()));
+    }
+
+    /**
+     * Clears the boards affected by a task change once the current transaction commits, or right away if there
+     * is none. Boards affected by several changes of one transaction are cleared once.
+     *
+     * @param change the change
+     */
+    public void clearAfterCommit(TaskChange change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            clear(affectedTypes(change));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<TaskType> pending = (Set<TaskType>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            final Set<TaskType> types = EnumSet.noneOf(TaskType.class);
+            TransactionSynchronizationManager.bindResource(this, types);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear(types);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TaskBoardCache.this);
+                }
+            });
+            pending = types;
+        }
+        pending.addAll(affectedTypes(change));
+    }
+
+    private void clear(Set<TaskType> types) {
+        board.clear();
+        types.forEach(type -> boardByType.get(type).clear());
+    }
+
+    private Set<TaskType> affectedTypes(TaskChange change) {
+        final Set<TaskType> affected = EnumSet.noneOf(TaskType.class);
+        if (change.previousType() == null) {
+            affected.addAll(boardByType.keySet());
+        } else {
+            affected.add(change.previousType());
+        }
+        if (!change.isDeleted()) affected.add(change.current().getType());
+        return affected;
+    }
+}
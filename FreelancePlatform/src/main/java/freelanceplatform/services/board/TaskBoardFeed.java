@@ -0,0 +1,255 @@
+package freelanceplatform.services.board;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import freelanceplatform.dto.readUpdate.TaskBoardDelta;
+import freelanceplatform.dto.readUpdate.TaskBoardDelta.Kind;
+import freelanceplatform.events.TaskChange;
+import freelanceplatform.model.TaskStatus;
+import freelanceplatform.model.TaskType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Live feed of task board changes sent to subscribers as Server-Sent Events.
+ *
+ * <p>Deltas are derived from the committed {@link TaskChange} events published wherever tasks change, so every
+ * application instance feeds its own subscribers. Each delta is serialized once and the event listener only
+ * enqueues it; a small pool of senders writes it to the connections. Each subscriber has a bounded buffer and a subscriber whose buffer
+ * is full is disconnected instead of blocking the others or silently missing deltas. So is a subscriber whose
+ * connection took longer than the write timeout to accept an event, so stalled connections do not hold the
+ * senders for long. Disconnecting never waits for a write in progress; the connection is closed by its sender
+ * once the write returns. A disconnected client reloads the board and subscribes again.
+ */
+@Slf4j
+@Component
+public class TaskBoardFeed {
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long writeTimeoutNanos;
+    private final ExecutorService senders;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    public TaskBoardFeed(ObjectMapper objectMapper,
+                         @Value("${app.task-board.feed.buffer-size:256}") int bufferSize,
+                         @Value("${app.task-board.feed.timeout:PT30M}") Duration timeout,
+                         @Value("${app.task-board.feed.write-timeout:PT10S}") Duration writeTimeout,
+                         @Value("${app.task-board.feed.senders:4}") int senders) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+        this.senders = Executors.newFixedThreadPool(senders, runnable -> {
+            final Thread thread = new Thread(runnable, "task-board-feed");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdownNow();
+        subscribers.forEach(this::disconnect);
+    }
+
+    /**
+     * Subscribes to board changes.
+     *
+     * @param type type of tasks to receive changes of or {@code null} for all types
+     * @return the emitter to return from the controller
+     */
+    public SseEmitter subscribe(TaskType type) {
+        final Subscriber subscriber = new Subscriber(type, new SseEmitter(timeoutMillis), new ArrayBlockingQueue<>(bufferSize));
+        subscriber.emitter.onCompletion(() -> discard(subscriber));
+        subscriber.emitter.onTimeout(() -> discard(subscriber));
+        subscriber.emitter.onError(error -> discard(subscriber));
+        subscribers.add(subscriber);
+        return subscriber.emitter;
+    }
+
+    /**
+     * Returns the number of open subscriptions.
+     *
+     * @return the number of subscribers
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Pushes the board delta of a committed task change to the subscribers interested in it.
+     * Deletions carry no type and go to every subscriber. A task whose type changed is removed from the
+     * boards of the types it left, or of every other type if its previous type is not known.
+     *
+     * @param change the change
+     */
+    @EventListener
+    public void onTaskChange(TaskChange change) {
+        if (subscribers.isEmpty()) return;
+        final TaskBoardDelta delta = toDelta(change);
+        final TaskType type = change.isDeleted() ? null : change.current().getType();
+        final Set<TaskType> left = leftTypes(change);
+        if (delta == null && left.isEmpty()) return;
+        final Set<DataWithMediaType> event = delta == null ? null : toEvent(delta);
+        final Set<DataWithMediaType> removal = left.isEmpty() ? null
+                : toEvent(new TaskBoardDelta(Kind.REMOVED, change.taskId(), null));
+        subscribers.forEach(subscriber -> {
+            if (type == null || subscriber.type == null || subscriber.type == type) {
+                if (event != null) enqueue(subscriber, event);
+            } else if (left.contains(subscriber.type) && removal != null) {
+                enqueue(subscriber, removal);
+            }
+        });
+    }
+
+    /**
+     * Sends a comment to all subscribers, so idle connections are kept open by proxies and closed
+     * connections are noticed.
+     */
+    @Scheduled(fixedDelayString = "${app.task-board.feed.heartbeat-interval:PT30S}")
+    public void heartbeat() {
+        final Set<DataWithMediaType> event = SseEmitter.event().comment("heartbeat").build();
+        subscribers.forEach(subscriber -> enqueue(subscriber, event));
+    }
+
+    /**
+     * Derives the board delta of a task change.
+     *
+     * @param change the change
+     * @return the delta or {@code null} if the change does not concern the board
+     */
+    static TaskBoardDelta toDelta(TaskChange change) {
+        if (change.isDeleted()) return new TaskBoardDelta(Kind.REMOVED, change.taskId(), null);
+        final TaskStatus status = change.current().getStatus();
+        if (status == TaskStatus.UNASSIGNED) return new TaskBoardDelta(Kind.POSTED, change.taskId(), change.current());
+        if (status == TaskStatus.ASSIGNED) return new TaskBoardDelta(Kind.ASSIGNED, change.taskId(), change.current());
+        return null;
+    }
+
+    /**
+     * Returns the types whose boards a changed task left.
+     *
+     * @param change the change
+     * @return the types, empty for deletions, which go to every subscriber anyway
+     */
+    static Set<TaskType> leftTypes(TaskChange change) {
+        final Set<TaskType> left = EnumSet.noneOf(TaskType.class);
+        if (change.isDeleted()) return left;
+        if (change.previousType() == null) {
+            left.addAll(EnumSet.allOf(TaskType.class));
+        } else {
+            left.add(change.previousType());
+        }
+        left.remove(change.current().getType());
+        return left;
+    }
+
+    private Set<DataWithMediaType> toEvent(TaskBoardDelta delta) {
+        try {
+            return SseEmitter.event()
+                    .name(delta.getKind().name())
+                    .data(objectMapper.writeValueAsString(delta))
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize task board delta {}", delta, e);
+            return null;
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, Set<DataWithMediaType> event) {
+        final long writeStarted = subscriber.writeStarted;
+        if (writeStarted != 0 && System.nanoTime() - writeStarted > writeTimeoutNanos) {
+            log.warn("Disconnecting stalled task board subscriber, write pending for {} ms",
+                    Duration.ofNanos(System.nanoTime() - writeStarted).toMillis());
+            disconnect(subscriber);
+            return;
+        }
+        if (!subscriber.queue.offer(event)) {
+            log.warn("Disconnecting slow task board subscriber, {} events pending", subscriber.queue.size());
+            disconnect(subscriber);
+            return;
+        }
+        if (subscriber.sending.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                disconnect(subscriber);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            Set<DataWithMediaType> event;
+            while (!subscriber.closed && (event = subscriber.queue.poll()) != null) {
+                subscriber.writeStarted = System.nanoTime();
+                try {
+                    subscriber.emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("Task board subscriber went away", e);
+                    discard(subscriber);
+                } finally {
+                    subscriber.writeStarted = 0;
+                }
+            }
+            subscriber.sending.set(false);
+            // a disconnect that saw this sender still writing left the connection to be closed here
+            if (subscriber.closed) {
+                complete(subscriber);
+                return;
+            }
+            // an event enqueued after the last poll but before the flag was cleared is sent by this sender
+        } while (!subscriber.queue.isEmpty() && subscriber.sending.compareAndSet(false, true));
+    }
+
+    /**
+     * Stops feeding a subscriber and closes its connection, unless a sender is writing to it. Closing waits
+     * for the write, so the sender closes the connection once its write returns.
+     */
+    private void disconnect(Subscriber subscriber) {
+        discard(subscriber);
+        if (!subscriber.sending.get()) complete(subscriber);
+    }
+
+    private void discard(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscribers.remove(subscriber);
+        subscriber.queue.clear();
+    }
+
+    private static void complete(Subscriber subscriber) {
+        if (subscriber.completed.compareAndSet(false, true)) subscriber.emitter.complete();
+    }
+
+    private static final class Subscriber {
+
+        private final TaskType type;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile long writeStarted;
+
+        Subscriber(TaskType type, SseEmitter emitter, BlockingQueue<Set<DataWithMediaType>> queue) {
+            this.type = type;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+}
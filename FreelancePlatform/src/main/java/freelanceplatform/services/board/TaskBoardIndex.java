@@ -0,0 +1,179 @@
+package freelanceplatform.services.board;
+
+import freelanceplatform.dto.paging.TaskBoardCursor;
+import freelanceplatform.dto.readUpdate.TaskReadUpdate;
+import freelanceplatform.events.TaskChange;
+import freelanceplatform.model.TaskStatus;
+import freelanceplatform.model.TaskType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+
+/**
+ * In-memory copy of the task board, i.e. of all unassigned tasks, sorted by (posted date, id).
+ *
+ * <p>The index keeps one sorted map over the whole board and one per {@link TaskType}, so both sort orders
+ * and keyset pages of any of them are served without touching the database. It is loaded with
+ * {@link #rebuild(Supplier)} and then kept up to date by committed {@link TaskChange} events. Events may arrive
+ * out of order, so the version of the last change applied to each task is kept and older changes are ignored.
+ * Events that never arrive are repaired by the next rebuild.
+ */
+@Slf4j
+@Component
+public class TaskBoardIndex {
+
+    private static final Comparator<TaskBoardCursor> ORDER = Comparator
+            .comparing(TaskBoardCursor::postedDate)
+            .thenComparing(TaskBoardCursor::id);
+
+    private final boolean enabled;
+    private final ConcurrentHashMap<Integer, TaskReadUpdate> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, Long> versions = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<TaskBoardCursor, TaskReadUpdate> board = new ConcurrentSkipListMap<>(ORDER);
+    private final Map<TaskType, ConcurrentSkipListMap<TaskBoardCursor, TaskReadUpdate>> boardByType = new EnumMap<>(TaskType.class);
+
+    private volatile boolean ready;
+    private volatile Set<Integer> changedDuringRebuild;
+
+    public TaskBoardIndex(@Value("${app.task-board.index.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+        Arrays.stream(TaskType.values()).forEach(type -> boardByType.put(type, new ConcurrentSkipListMap<>(ORDER)));
+    }
+
+    /**
+     * Checks whether the index is enabled and loaded, i.e. whether it can serve the board.
+     *
+     * @return true if board reads can be served from the index
+     */
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * Checks whether the index is switched on by configuration.
+     *
+     * @return true if the index is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Replaces the content of the index with the board read by the loader. Changes are tracked from before
+     * the loader runs, and tasks changed by events received meanwhile keep the state from the event, since
+     * the loaded board may predate it. Tasks whose state did not change are left in place, so the index keeps
+     * serving the board while it is rebuilt. Versions are kept only for tasks on the board and tasks changed
+     * meanwhile.
+     *
+     * @param loader reads all unassigned tasks
+     */
+    public void rebuild(Supplier<? extends Collection<TaskReadUpdate>> loader) {
+        final Set<Integer> changed = ConcurrentHashMap.newKeySet();
+        changedDuringRebuild = changed;
+        try {
+            final Set<Integer> loaded = new HashSet<>();
+            for (TaskReadUpdate task : loader.get()) {
+                loaded.add(task.getId());
+                entries.compute(task.getId(), (id, previous) ->
+                        changed.contains(id) || task.equals(previous) ? previous : replace(previous, task));
+            }
+            for (Integer stale : new ArrayList<>(entries.keySet())) {
+                if (!loaded.contains(stale)) {
+                    entries.compute(stale, (id, previous) -> changed.contains(id) ? previous : replace(previous, null));
+                }
+            }
+            for (Integer id : new ArrayList<>(versions.keySet())) {
+                entries.compute(id, (key, previous) -> {
+                    if (previous == null && !changed.contains(key)) versions.remove(key);
+                    return previous;
+                });
+            }
+        } finally {
+            changedDuringRebuild = null;
+        }
+        ready = true;
+        log.info("Task board index rebuilt with {} tasks", board.size());
+    }
+
+    /**
+     * Applies a committed task change, unless a newer change of the task was applied already.
+     *
+     * @param change the change
+     */
+    @EventListener
+    public void onTaskChange(TaskChange change) {
+        if (!enabled) return;
+        final TaskReadUpdate current = change.isDeleted() || change.current().getStatus() != TaskStatus.UNASSIGNED
+                ? null
+                : change.current();
+        entries.compute(change.taskId(), (id, previous) -> {
+            if (versions.getOrDefault(id, TaskChange.CREATED) > change.version()) return previous;
+            versions.put(id, change.version());
+            final Set<Integer> changed = changedDuringRebuild;
+            if (changed != null) changed.add(id);
+            return replace(previous, current);
+        });
+    }
+
+    /**
+     * Returns the whole board, optionally restricted to one type.
+     *
+     * @param type       type to restrict the board to or {@code null} for all types
+     * @param fromNewest whether to sort tasks from newest to oldest
+     * @return the board tasks
+     */
+    public List<TaskReadUpdate> findAll(TaskType type, boolean fromNewest) {
+        final ConcurrentNavigableMap<TaskBoardCursor, TaskReadUpdate> tasks = boardOf(type);
+        return new ArrayList<>((fromNewest ? tasks.descendingMap() : tasks).values());
+    }
+
+    /**
+     * Reads board tasks following the given position in the requested direction.
+     *
+     * @param type       type to restrict the board to or {@code null} for all types
+     * @param descending whether to read from newer to older tasks
+     * @param position   position to seek from, exclusive, or {@code null} to read from the start
+     * @param count      maximal number of tasks to read
+     * @return tasks in reading order
+     */
+    public List<TaskReadUpdate> findSlice(TaskType type, boolean descending, TaskBoardCursor position, int count) {
+        ConcurrentNavigableMap<TaskBoardCursor, TaskReadUpdate> tasks = boardOf(type);
+        if (position != null) tasks = descending ? tasks.headMap(position, false) : tasks.tailMap(position, false);
+        if (descending) tasks = tasks.descendingMap();
+        return tasks.values().stream().limit(count).toList();
+    }
+
+    private ConcurrentNavigableMap<TaskBoardCursor, TaskReadUpdate> boardOf(TaskType type) {
+        return type == null ? board : boardByType.get(type);
+    }
+
+    /**
+     * Moves a task within the sorted maps. Must be called under the lock of the task entry.
+     *
+     * @param previous indexed state of the task or {@code null}
+     * @param current  new state of the task or {@code null} to drop it from the board
+     * @return the new entry value
+     */
+    private TaskReadUpdate replace(TaskReadUpdate previous, TaskReadUpdate current) {
+        if (previous != null) {
+            board.remove(cursorOf(previous));
+            boardByType.get(previous.getType()).remove(cursorOf(previous));
+        }
+        if (current != null) {
+            board.put(cursorOf(current), current);
+            boardByType.get(current.getType()).put(cursorOf(current), current);
+        }
+        return current;
+    }
+
+    private static TaskBoardCursor cursorOf(TaskReadUpdate task) {
+        return new TaskBoardCursor(task.getPostedDate(), task.getId());
+    }
+}
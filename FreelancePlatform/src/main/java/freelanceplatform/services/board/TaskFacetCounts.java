@@ -0,0 +1,185 @@
+package freelanceplatform.services.board;
+
+import freelanceplatform.data.TaskFacetCount;
+import freelanceplatform.data.TaskFacetRow;
+import freelanceplatform.dto.readUpdate.TaskFacets;
+import freelanceplatform.events.TaskChange;
+import freelanceplatform.model.TaskStatus;
+import freelanceplatform.model.TaskType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Numbers of tasks per {@link TaskType} and per {@link TaskStatus}, kept in memory so that facets are read
+ * in time proportional to the number of enum values.
+ *
+ * <p>Counters are loaded with {@link #rebuild(Stream)} and then moved by committed {@link TaskChange} events.
+ * The last known type and status of every task is remembered, so a change only moves the task between the
+ * counters it actually left and entered, and repeated events are harmless. Type and status pairs are shared
+ * instances, so remembering them costs one map entry per task. Counters are periodically checked
+ * against the database with {@link #reconcile(Collection)}.
+ */
+@Slf4j
+@Component
+public class TaskFacetCounts {
+
+    private record Facet(TaskType type, TaskStatus status) {
+
+        private static final Facet[][] ALL = Arrays.stream(TaskType.values())
+                .map(type -> Arrays.stream(TaskStatus.values()).map(status -> new Facet(type, status)).toArray(Facet[]::new))
+                .toArray(Facet[][]::new);
+
+        static Facet of(TaskType type, TaskStatus status) {
+            return ALL[type.ordinal()][status.ordinal()];
+        }
+    }
+
+    private final ConcurrentHashMap<Integer, Facet> facets = new ConcurrentHashMap<>();
+    private final Map<TaskType, AtomicLong> countByType = counters(TaskType.class);
+    private final Map<TaskStatus, AtomicLong> countByStatus = counters(TaskStatus.class);
+
+    private volatile boolean ready;
+    private volatile Set<Integer> changedDuringRebuild;
+    private int driftedChecks;
+
+    /**
+     * Checks whether the counters are loaded.
+     *
+     * @return true if facets can be served from the counters
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Replaces the counters with the given tasks. Tasks changed by events received while the rebuild runs
+     * keep the state from the event, since the snapshot may predate it.
+     *
+     * @param snapshot all tasks
+     */
+    public void rebuild(Stream<TaskFacetRow> snapshot) {
+        final Set<Integer> changed = ConcurrentHashMap.newKeySet();
+        changedDuringRebuild = changed;
+        final Set<Integer> loaded = new HashSet<>();
+        snapshot.forEach(task -> {
+            loaded.add(task.id());
+            final Facet facet = Facet.of(task.type(), task.status());
+            facets.compute(task.id(), (id, previous) -> changed.contains(id) ? previous : move(previous, facet));
+        });
+        for (Integer stale : new ArrayList<>(facets.keySet())) {
+            if (!loaded.contains(stale)) {
+                facets.compute(stale, (id, previous) -> changed.contains(id) ? previous : move(previous, null));
+            }
+        }
+        changedDuringRebuild = null;
+        ready = true;
+        log.info("Task facet counts rebuilt with {} tasks", facets.size());
+    }
+
+    /**
+     * Applies a committed task change.
+     *
+     * @param change the change
+     */
+    @EventListener
+    public void onTaskChange(TaskChange change) {
+        final Facet current = change.isDeleted()
+                ? null
+                : Facet.of(change.current().getType(), change.current().getStatus());
+        facets.compute(change.taskId(), (id, previous) -> {
+            final Set<Integer> changed = changedDuringRebuild;
+            if (changed != null) changed.add(id);
+            return move(previous, current);
+        });
+    }
+
+    /**
+     * Returns the current counts.
+     *
+     * @return numbers of tasks per type and per status
+     */
+    public TaskFacets snapshot() {
+        return new TaskFacets(values(TaskType.class, countByType), values(TaskStatus.class, countByStatus));
+    }
+
+    /**
+     * Compares the counters with counts read from the database. A single mismatch may be caused by changes
+     * committed but not delivered yet, so the counters are reported as drifted only when two consecutive
+     * checks disagree with the database.
+     *
+     * @param counts numbers of tasks per type and status, as counted by the database
+     * @return true if the counters drifted and should be rebuilt
+     */
+    public synchronized boolean reconcile(Collection<TaskFacetCount> counts) {
+        if (!ready) return false;
+        final TaskFacets expected = aggregate(counts);
+        if (expected.equals(snapshot())) {
+            driftedChecks = 0;
+            return false;
+        }
+        log.warn("Task facet counts {} differ from database counts {}", snapshot(), expected);
+        if (++driftedChecks < 2) return false;
+        driftedChecks = 0;
+        return true;
+    }
+
+    /**
+     * Sums counts per type and status into counts per type and per status.
+     *
+     * @param counts numbers of tasks per type and status
+     * @return numbers of tasks per type and per status
+     */
+    public static TaskFacets aggregate(Collection<TaskFacetCount> counts) {
+        final Map<TaskType, Long> byType = zeros(TaskType.class);
+        final Map<TaskStatus, Long> byStatus = zeros(TaskStatus.class);
+        for (TaskFacetCount count : counts) {
+            byType.merge(count.type(), count.count(), Long::sum);
+            byStatus.merge(count.status(), count.count(), Long::sum);
+        }
+        return new TaskFacets(byType, byStatus);
+    }
+
+    /**
+     * Moves a task between counters. Must be called under the lock of the task entry.
+     *
+     * @param previous counted facet of the task or {@code null}
+     * @param current  new facet of the task or {@code null} if it no longer exists
+     * @return the new entry value
+     */
+    private Facet move(Facet previous, Facet current) {
+        if (Objects.equals(previous, current)) return current;
+        if (previous != null) {
+            countByType.get(previous.type()).decrementAndGet();
+            countByStatus.get(previous.status()).decrementAndGet();
+        }
+        if (current != null) {
+            countByType.get(current.type()).incrementAndGet();
+            countByStatus.get(current.status()).incrementAndGet();
+        }
+        return current;
+    }
+
+    private static <E extends Enum<E>> Map<E, AtomicLong> counters(Class<E> type) {
+        final Map<E, AtomicLong> counters = new EnumMap<>(type);
+        Arrays.stream(type.getEnumConstants()).forEach(value -> counters.put(value, new AtomicLong()));
+        return counters;
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> zeros(Class<E> type) {
+        final Map<E, Long> zeros = new EnumMap<>(type);
+        Arrays.stream(type.getEnumConstants()).forEach(value -> zeros.put(value, 0L));
+        return zeros;
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> values(Class<E> type, Map<E, AtomicLong> counters) {
+        final Map<E, Long> values = new EnumMap<>(type);
+        counters.forEach((key, counter) -> values.put(key, counter.get()));
+        return values;
+    }
+}
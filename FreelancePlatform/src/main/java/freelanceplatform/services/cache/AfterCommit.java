@@ -0,0 +1,34 @@
+package freelanceplatform.services.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers work until the current transaction commits: cache invalidation, so readers racing the transaction
+ * cannot load the old state back into the cache after it was invalidated, and announcements of changes the
+ * database may still reject.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Runs the action after the commit of the current transaction, or right away if there is none.
+     * The action is dropped if the transaction rolls back.
+     *
+     * @param action the action
+     */
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
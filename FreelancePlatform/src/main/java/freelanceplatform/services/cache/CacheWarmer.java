@@ -0,0 +1,167 @@
+package freelanceplatform.services.cache;
+
+import com.hazelcast.map.IMap;
+import freelanceplatform.data.PrimaryReads;
+import freelanceplatform.dto.snapshot.TaskSnapshot;
+import freelanceplatform.dto.snapshot.UserSnapshot;
+import freelanceplatform.model.TaskStatus;
+import freelanceplatform.services.TaskService;
+import freelanceplatform.services.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Loads the task board index, the task facet counts and the most requested cache entries when the application
+ * starts, before it reports ready to accept traffic.
+ *
+ * <p>The ids of the most recently posted unassigned tasks and of the most recently active users are read with
+ * one bounded index scan each and split into batches. Each batch locks the keys of its entries in the Hazelcast
+ * map behind the cache, reads the snapshots missing from it with one query and puts them if still absent before
+ * unlocking. Evictions of a locked key wait for the lock, like during an ordinary locked miss, so a change
+ * committed meanwhile cannot be overwritten by a value read before it. The steps and the batches run on the
+ * configured number of threads and startup waits for them at most the configured budget; work still running
+ * after it finishes in the background while the board and caches fall back to the database. All reads go to
+ * the primary database, since what they load is kept beyond the replication lag.
+ */
+@Slf4j
+@Component
+public class CacheWarmer implements ApplicationRunner {
+
+    private final TaskService taskService;
+    private final UserService userService;
+    private final CacheManager cacheManager;
+    private final int tasks;
+    private final int users;
+    private final int batchSize;
+    private final int parallelism;
+    private final Duration budget;
+
+    public CacheWarmer(TaskService taskService, UserService userService, CacheManager cacheManager,
+                       @Value("${app.cache.warm-up.tasks:1000}") int tasks,
+                       @Value("${app.cache.warm-up.users:1000}") int users,
+                       @Value("${app.cache.warm-up.batch-size:100}") int batchSize,
+                       @Value("${app.cache.warm-up.parallelism:4}") int parallelism,
+                       @Value("${app.cache.warm-up.budget:PT30S}") Duration budget) {
+        this.taskService = taskService;
+        this.userService = userService;
+        this.cacheManager = cacheManager;
+        this.tasks = tasks;
+        this.users = users;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.budget = budget;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        final long start = System.nanoTime();
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            final Thread thread = new Thread(runnable, "cache-warm-up");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final List<CompletableFuture<?>> steps = List.of(
+                    CompletableFuture.runAsync(step("task board index", taskService::rebuildTaskBoardIndex), executor),
+                    CompletableFuture.runAsync(step("task facet counts", taskService::rebuildTaskFacetCounts), executor),
+                    warmUp("tasks", tasks, () -> taskService.findRecentIds(TaskStatus.UNASSIGNED, tasks),
+                            taskService::findSnapshotsByIds, TaskSnapshot::id, executor),
+                    warmUp("users", users, () -> taskService.findRecentlyActiveUserIds(users),
+                            userService::findSnapshotsByIds, UserSnapshot::id, executor));
+            final long deadline = start + budget.toNanos();
+            for (CompletableFuture<?> step : steps) {
+                try {
+                    step.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (ExecutionException e) {
+                    // logged by the step itself
+                } catch (TimeoutException e) {
+                    log.warn("Cache warm-up exceeded its budget of {}, continuing in the background", budget);
+                    break;
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        log.info("Cache warm-up finished in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Reads the ids of the entries to load and then loads them into a cache in batches running in parallel.
+     */
+    private <T> CompletableFuture<?> warmUp(String cacheName, int limit, Supplier<List<Integer>> ids,
+                                            Function<List<Integer>, List<T>> read, Function<T, Integer> idOf,
+                                            Executor executor) {
+        if (limit <= 0) return CompletableFuture.completedFuture(null);
+        final Cache cache = Objects.requireNonNull(cacheManager.getCache(cacheName));
+        final String name = cacheName + " cache";
+        return CompletableFuture.supplyAsync(() -> call(name, () -> PrimaryReads.get(ids)), executor)
+                .thenCompose(found -> {
+                    final List<CompletableFuture<Integer>> batches = new ArrayList<>();
+                    for (int from = 0; from < found.size(); from += batchSize) {
+                        final List<Integer> batch = found.subList(from, Math.min(from + batchSize, found.size()));
+                        batches.add(CompletableFuture.supplyAsync(
+                                () -> call(name, () -> load(cache, batch, read, idOf)), executor));
+                    }
+                    return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new)).thenRun(() ->
+                            log.info("Preloaded {} entries into the {}", batches.stream().mapToInt(CompletableFuture::join).sum(), name));
+                });
+    }
+
+    /**
+     * Loads the entries of a batch missing from a cache while holding the locks of their keys.
+     *
+     * @return the number of entries put into the cache
+     */
+    private static <T> int load(Cache cache, List<Integer> ids, Function<List<Integer>, List<T>> read,
+                                Function<T, Integer> idOf) {
+        if (!(cache.getNativeCache() instanceof IMap<?, ?> nativeMap)) {
+            throw new IllegalStateException("Cache " + cache.getName() + " is not backed by a Hazelcast map");
+        }
+        @SuppressWarnings("unchecked") final IMap<Object, Object> map = (IMap<Object, Object>) nativeMap;
+        final List<Integer> locked = new ArrayList<>(ids.size());
+        try {
+            for (Integer id : ids) {
+                map.lock(id);
+                locked.add(id);
+            }
+            final List<Integer> missing = ids.stream().filter(id -> !map.containsKey(id)).toList();
+            if (missing.isEmpty()) return 0;
+            int loaded = 0;
+            for (T value : PrimaryReads.get(() -> read.apply(missing))) {
+                if (cache.putIfAbsent(idOf.apply(value), value) == null) loaded++;
+            }
+            return loaded;
+        } finally {
+            locked.forEach(map::unlock);
+        }
+    }
+
+    private static <T> T call(String name, Supplier<T> work) {
+        try {
+            return work.get();
+        } catch (RuntimeException e) {
+            log.error("Cache warm-up of the {} failed", name, e);
+            throw e;
+        }
+    }
+
+    private static Runnable step(String name, Runnable step) {
+        return () -> call(name, () -> {
+            PrimaryReads.run(step);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,212 @@
+package freelanceplatform.services.cache;
+
+import com.hazelcast.map.IMap;
+import freelanceplatform.data.PrimaryReads;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+import org.springframework.cache.Cache;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache counting its hits, misses, puts and evictions and timing the loads of missed entries, published as
+ * Micrometer meters tagged with the name of the cache.
+ *
+ * <p>The counters follow the Micrometer cache conventions ({@code cache.gets}, {@code cache.puts},
+ * {@code cache.evictions}, {@code cache.size}). Loads are timed for lookups with a value loader, which is how
+ * {@code @Cacheable(sync = true)} reads the cache, by the {@code cache.load.duration} timer publishing
+ * a percentile histogram and tagged with the result of the load. Counters cover this application instance only,
+ * and hits include those answered by a local level. Entry counts and the evictions and expirations done by
+ * the cache itself are taken from the underlying Hazelcast map when there is one.
+ *
+ * <p>Loads read from the primary database, see {@link PrimaryReads}: a loaded value is shared by every
+ * instance until it is evicted or expires, so it must not come from a replica that is behind.
+ */
+public class MeteredCache implements Cache {
+
+    private final Cache delegate;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final Timer loads;
+    private final Timer failedLoads;
+
+    public MeteredCache(Cache delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.loads = loadTimer("success", registry);
+        this.failedLoads = loadTimer("failure", registry);
+        new Metrics(this).bindTo(registry);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return lookedUp(delegate.get(key));
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        final T value = delegate.get(key, type);
+        lookedUp(value);
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        final boolean[] loaded = {false};
+        final T value = delegate.get(key, () -> {
+            loaded[0] = true;
+            misses.increment();
+            final long start = System.nanoTime();
+            Timer timer = failedLoads;
+            try {
+                final T result = PrimaryReads.call(valueLoader);
+                timer = loads;
+                return result;
+            } finally {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        });
+        if (!loaded[0]) hits.increment();
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        puts.increment();
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        final ValueWrapper existing = delegate.putIfAbsent(key, value);
+        if (existing == null) puts.increment();
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        evictions.increment();
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        final boolean evicted = delegate.evictIfPresent(key);
+        if (evicted) evictions.increment();
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        evictions.increment();
+    }
+
+    @Override
+    public boolean invalidate() {
+        final boolean invalidated = delegate.invalidate();
+        evictions.increment();
+        return invalidated;
+    }
+
+    private Timer loadTimer(String result, MeterRegistry registry) {
+        return Timer.builder("cache.load.duration")
+                .description("The time taken to load missed entries")
+                .tags("cache", getName(), "result", result)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private <T> T lookedUp(T value) {
+        (value == null ? misses : hits).increment();
+        return value;
+    }
+
+    /**
+     * Binds the counters of a cache, and what its levels report about themselves, to a meter registry.
+     */
+    private static class Metrics extends CacheMeterBinder<MeteredCache> {
+
+        Metrics(MeteredCache cache) {
+            super(cache, cache.getName(), Tags.empty());
+        }
+
+        @Override
+        protected Long size() {
+            final MeteredCache cache = getCache();
+            if (cache == null) return null;
+            final Object nativeCache = cache.getNativeCache();
+            if (nativeCache instanceof IMap<?, ?> map) return (long) map.size();
+            if (nativeCache instanceof Map<?, ?> map) return (long) map.size();
+            return null;
+        }
+
+        @Override
+        protected long hitCount() {
+            final MeteredCache cache = getCache();
+            return cache == null ? 0 : cache.hits.sum();
+        }
+
+        @Override
+        protected Long missCount() {
+            final MeteredCache cache = getCache();
+            return cache == null ? null : cache.misses.sum();
+        }
+
+        @Override
+        protected Long evictionCount() {
+            final MeteredCache cache = getCache();
+            return cache == null ? null : cache.evictions.sum();
+        }
+
+        @Override
+        protected long putCount() {
+            final MeteredCache cache = getCache();
+            return cache == null ? 0 : cache.puts.sum();
+        }
+
+        @Override
+        protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+            final MeteredCache cache = getCache();
+            if (cache == null) return;
+            if (cache.delegate instanceof TwoLevelCache twoLevel) {
+                FunctionCounter.builder("cache.local.gets", twoLevel, TwoLevelCache::localHits)
+                        .tags(getTagsWithCacheName()).tag("result", "hit")
+                        .description("The number of times lookups were answered by the local level")
+                        .register(registry);
+                Gauge.builder("cache.local.size", twoLevel, TwoLevelCache::localSize)
+                        .tags(getTagsWithCacheName())
+                        .description("The approximate number of values held by the local level")
+                        .register(registry);
+            }
+            if (cache.getNativeCache() instanceof IMap<?, ?> map) {
+                FunctionCounter.builder("cache.evictions.size", map, m -> m.getLocalMapStats().getEvictionCount())
+                        .tags(getTagsWithCacheName())
+                        .description("The number of entries evicted by the map to stay within its size")
+                        .register(registry);
+                FunctionCounter.builder("cache.expirations", map, m -> m.getLocalMapStats().getExpirationCount())
+                        .tags(getTagsWithCacheName())
+                        .description("The number of entries expired by the map")
+                        .register(registry);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package freelanceplatform.services.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache manager wrapping every cache of another manager into a {@link MeteredCache} publishing its meters
+ * to the given registry.
+ */
+public class MeteredCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<String, MeteredCache> caches = new ConcurrentHashMap<>();
+
+    public MeteredCacheManager(CacheManager delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.registry = registry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        final MeteredCache cache = caches.get(name);
+        if (cache != null) return cache;
+        final Cache created = delegate.getCache(name);
+        return created == null ? null : caches.computeIfAbsent(name, key -> new MeteredCache(created, registry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
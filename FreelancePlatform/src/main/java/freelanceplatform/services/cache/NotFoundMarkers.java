@@ -0,0 +1,73 @@
+package freelanceplatform.services.cache;
+
+import freelanceplatform.data.ReplicaRoutingDataSource;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Short-lived markers of ids that were looked up and not found, so repeated lookups of missing entities are
+ * answered without a database query.
+ *
+ * <p>Markers of a cache {@code name} are kept in the cache {@code name-missing}, whose time to live bounds
+ * how long an entity created outside of the service save paths stays invisible. A lookup that started before
+ * a save committed may still find nothing and mark the id after the commit. Save paths therefore replace the
+ * marker of the new id with a guard once their transaction commits, and lookups never mark an id that is
+ * guarded. The guard lives as long as a marker would, which is much longer than a lookup takes. Lookups
+ * answered by a read replica do not mark ids, since the replica may not have the entity yet.
+ */
+@Component
+public class NotFoundMarkers {
+
+    public static final String SUFFIX = "-missing";
+
+    private static final Boolean MISSING = Boolean.TRUE;
+    private static final Boolean PRESENT = Boolean.FALSE;
+
+    private final CacheManager cacheManager;
+
+    public NotFoundMarkers(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Checks whether the key was recently not found.
+     *
+     * @param cacheName name of the cache of the entity
+     * @param key       id of the entity
+     * @return true if the entity is known to be missing
+     */
+    public boolean isMissing(String cacheName, Object key) {
+        return MISSING.equals(markers(cacheName).get(key, Boolean.class));
+    }
+
+    /**
+     * Remembers that the key was not found, unless the current transaction read from a replica or the entity
+     * was recently saved.
+     *
+     * @param cacheName name of the cache of the entity
+     * @param key       id of the entity
+     */
+    public void markMissing(String cacheName, Object key) {
+        if (ReplicaRoutingDataSource.isCurrentTransactionOnReplica()) return;
+        markers(cacheName).putIfAbsent(key, MISSING);
+    }
+
+    /**
+     * Replaces the marker of a saved entity with a guard keeping lookups that did not see it yet from marking
+     * it, after the commit of the current transaction if there is one.
+     *
+     * @param cacheName name of the cache of the entity
+     * @param key       id of the entity
+     */
+    public void markPresentAfterCommit(String cacheName, Object key) {
+        final Cache markers = markers(cacheName);
+        AfterCommit.run(() -> markers.put(key, PRESENT));
+    }
+
+    private Cache markers(String cacheName) {
+        return Objects.requireNonNull(cacheManager.getCache(cacheName + SUFFIX));
+    }
+}
@@ -0,0 +1,114 @@
+package freelanceplatform.services.cache;
+
+import freelanceplatform.dto.readUpdate.TaskReadUpdate;
+import freelanceplatform.model.TaskStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Cache of the lists of tasks posted and taken by a user, split by status and by whether their deadline expired.
+ *
+ * <p>Whether a deadline expired depends on the time of the query, so lists are computed against the start of
+ * a fixed-length time bucket and the bucket is part of the key. A list is reused within its bucket and the next
+ * bucket simply misses, so tasks move to the expired lists at most one bucket late, without rescanning cached
+ * lists. Entries of past buckets are never read again and expire in the cache.
+ *
+ * <p>A change of a task evicts the posted lists of its customer and the taken lists of its freelancer, in the
+ * current bucket, once the transaction commits.
+ */
+@Component
+public class TaskListCache {
+
+    public static final String POSTED = "postedTasks";
+    public static final String TAKEN = "takenTasks";
+
+    private static final TaskStatus[] STATUSES = allStatuses();
+
+    private final Cache posted;
+    private final Cache taken;
+    private final long bucketMillis;
+
+    public TaskListCache(CacheManager cacheManager, @Value("${app.task-lists.deadline-bucket:PT1M}") Duration bucket) {
+        this.posted = Objects.requireNonNull(cacheManager.getCache(POSTED));
+        this.taken = Objects.requireNonNull(cacheManager.getCache(TAKEN));
+        this.bucketMillis = bucket.toMillis();
+    }
+
+    /**
+     * Returns cached tasks posted by a user or loads them.
+     *
+     * @param userId  id of the customer
+     * @param status  status of the tasks or {@code null} for all statuses
+     * @param expired whether the list holds tasks with expired deadlines
+     * @param loader  reads the tasks from the database, given the time deadlines are compared with
+     * @return the tasks
+     */
+    public List<TaskReadUpdate> getPosted(Integer userId, TaskStatus status, boolean expired,
+                                          Function<LocalDateTime, List<TaskReadUpdate>> loader) {
+        return get(posted, userId, status, expired, loader);
+    }
+
+    /**
+     * Returns cached tasks taken by a user or loads them.
+     *
+     * @param userId  id of the freelancer
+     * @param status  status of the tasks or {@code null} for all statuses
+     * @param expired whether the list holds tasks with expired deadlines
+     * @param loader  reads the tasks from the database, given the time deadlines are compared with
+     * @return the tasks
+     */
+    public List<TaskReadUpdate> getTaken(Integer userId, TaskStatus status, boolean expired,
+                                         Function<LocalDateTime, List<TaskReadUpdate>> loader) {
+        return get(taken, userId, status, expired, loader);
+    }
+
+    /**
+     * Evicts the lists affected by a change of a task once the current transaction commits.
+     *
+     * @param customerId   id of the customer of the task
+     * @param freelancerId id of the freelancer of the task before or after the change, or {@code null}
+     */
+    public void evictAfterCommit(Integer customerId, Integer freelancerId) {
+        AfterCommit.run(() -> {
+            final long bucket = currentBucket();
+            if (customerId != null) evict(posted, customerId, bucket);
+            if (freelancerId != null) evict(taken, freelancerId, bucket);
+        });
+    }
+
+    private List<TaskReadUpdate> get(Cache cache, Integer userId, TaskStatus status, boolean expired,
+                                     Function<LocalDateTime, List<TaskReadUpdate>> loader) {
+        final long bucket = currentBucket();
+        final LocalDateTime deadline = LocalDateTime.ofInstant(Instant.ofEpochMilli(bucket * bucketMillis), ZoneId.systemDefault());
+        return cache.get(key(userId, status, expired, bucket), () -> new ArrayList<>(loader.apply(deadline)));
+    }
+
+    private static void evict(Cache cache, Integer userId, long bucket) {
+        for (TaskStatus status : STATUSES) {
+            cache.evict(key(userId, status, true, bucket));
+            cache.evict(key(userId, status, false, bucket));
+        }
+    }
+
+    private long currentBucket() {
+        return System.currentTimeMillis() / bucketMillis;
+    }
+
+    private static String key(Integer userId, TaskStatus status, boolean expired, long bucket) {
+        return userId + ":" + status + ":" + expired + ":" + bucket;
+    }
+
+    private static TaskStatus[] allStatuses() {
+        final TaskStatus[] statuses = new TaskStatus[TaskStatus.values().length + 1];
+        System.arraycopy(TaskStatus.values(), 0, statuses, 1, TaskStatus.values().length);
+        return statuses;
+    }
+}
@@ -0,0 +1,247 @@
+package freelanceplatform.services.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapEvent;
+import com.hazelcast.map.listener.*;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache keeping recently read values of a shared cache as deserialized objects on the heap of this instance.
+ *
+ * <p>Lookups are answered by the local level first and fall through to the shared level, whose value is then
+ * kept locally. Writes and evictions go to the shared level and drop the local copy. When the shared level is
+ * a Hazelcast map, a listener on it drops local copies of entries changed, evicted or expired by any member.
+ * A value read from the shared level is kept only if no invalidation of its key arrived while it was being
+ * read, so a slow read never overwrites a newer invalidation with an old value. A read marks its key in the
+ * local level when it starts and replaces the mark with the value only if the mark is still there, so
+ * invalidations of other keys do not keep the value from being kept.
+ *
+ * <p>Values are shared by all callers of this instance and must therefore be immutable.
+ */
+public class TwoLevelCache implements Cache {
+
+    private final Cache shared;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    private final LongAdder hits = new LongAdder();
+
+    public TwoLevelCache(Cache shared, long maxSize, Duration ttl) {
+        this.shared = shared;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        if (shared.getNativeCache() instanceof IMap<?, ?> map) {
+            map.addEntryListener(new Invalidator(), false);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return shared.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return shared.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        final Object cached = lookup(key);
+        if (cached != null) return new SimpleValueWrapper(fromStoreValue(cached));
+        final Reading reading = startReading(key);
+        ValueWrapper value = null;
+        try {
+            value = shared.get(key);
+        } finally {
+            keep(key, reading, value == null ? null : toStoreValue(value.get()));
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        final ValueWrapper value = get(key);
+        final Object found = value == null ? null : value.get();
+        if (found != null && type != null && !type.isInstance(found)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + found);
+        }
+        return (T) found;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        final Object cached = lookup(key);
+        if (cached != null) return (T) fromStoreValue(cached);
+        final Reading reading = startReading(key);
+        Object kept = null;
+        try {
+            final T value = shared.get(key, valueLoader);
+            kept = toStoreValue(value);
+            return value;
+        } finally {
+            keep(key, reading, kept);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        shared.put(key, value);
+        invalidateLocal(key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        final ValueWrapper existing = shared.putIfAbsent(key, value);
+        invalidateLocal(key);
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        shared.evict(key);
+        invalidateLocal(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        final boolean evicted = shared.evictIfPresent(key);
+        invalidateLocal(key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        shared.clear();
+        invalidateLocal();
+    }
+
+    @Override
+    public boolean invalidate() {
+        final boolean invalidated = shared.invalidate();
+        invalidateLocal();
+        return invalidated;
+    }
+
+    /**
+     * Returns the number of lookups answered by the local level.
+     *
+     * @return the number of local hits
+     */
+    public long localHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the approximate number of values held by the local level.
+     *
+     * @return the number of local values
+     */
+    public long localSize() {
+        return local.estimatedSize();
+    }
+
+    /**
+     * Drops the local copy of an entry.
+     *
+     * @param key key of the entry
+     */
+    void invalidateLocal(Object key) {
+        local.invalidate(key);
+    }
+
+    /**
+     * Drops all local copies.
+     */
+    void invalidateLocal() {
+        local.invalidateAll();
+    }
+
+    private Object lookup(Object key) {
+        final Object cached = local.getIfPresent(key);
+        if (cached == null || cached instanceof Reading) return null;
+        hits.increment();
+        return cached;
+    }
+
+    /**
+     * Marks a key as being read from the shared level, replacing the mark of any other read of it.
+     * An invalidation of the key removes the mark.
+     */
+    private Reading startReading(Object key) {
+        final Reading reading = new Reading();
+        local.put(key, reading);
+        return reading;
+    }
+
+    /**
+     * Replaces the mark of a read with the value read, unless the key was invalidated or read again since the
+     * read started. A read that failed only removes its mark.
+     */
+    private void keep(Object key, Reading reading, Object value) {
+        if (value == null) {
+            local.asMap().remove(key, reading);
+        } else {
+            local.asMap().replace(key, reading, value);
+        }
+    }
+
+    private static Object toStoreValue(Object value) {
+        return value == null ? NullValue.INSTANCE : value;
+    }
+
+    private static Object fromStoreValue(Object value) {
+        return value == NullValue.INSTANCE ? null : value;
+    }
+
+    /**
+     * Mark of a key whose value is being read from the shared level.
+     */
+    private static final class Reading {
+    }
+
+    private class Invalidator implements EntryUpdatedListener<Object, Object>, EntryRemovedListener<Object, Object>,
+            EntryEvictedListener<Object, Object>, EntryExpiredListener<Object, Object>,
+            MapClearedListener, MapEvictedListener {
+
+        @Override
+        public void entryUpdated(EntryEvent<Object, Object> event) {
+            invalidateLocal(event.getKey());
+        }
+
+        @Override
+        public void entryRemoved(EntryEvent<Object, Object> event) {
+            invalidateLocal(event.getKey());
+        }
+
+        @Override
+        public void entryEvicted(EntryEvent<Object, Object> event) {
+            invalidateLocal(event.getKey());
+        }
+
+        @Override
+        public void entryExpired(EntryEvent<Object, Object> event) {
+            invalidateLocal(event.getKey());
+        }
+
+        @Override
+        public void mapCleared(MapEvent event) {
+            invalidateLocal();
+        }
+
+        @Override
+        public void mapEvicted(MapEvent event) {
+            invalidateLocal();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package freelanceplatform.services.cache;
+
+import freelanceplatform.config.LocalCacheProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache manager putting a {@link TwoLevelCache} in front of the caches of another manager that have
+ * a local level configured. Other caches are returned as they are.
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Map<String, LocalCacheProperties.Spec> specs;
+    private final ConcurrentHashMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager delegate, Map<String, LocalCacheProperties.Spec> specs) {
+        this.delegate = delegate;
+        this.specs = Map.copyOf(specs);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        final Cache cache = caches.get(name);
+        if (cache != null) return cache;
+        final Cache shared = delegate.getCache(name);
+        if (shared == null) return null;
+        final LocalCacheProperties.Spec spec = specs.get(name);
+        if (spec == null) return shared;
+        return caches.computeIfAbsent(name, key -> new TwoLevelCache(shared, spec.maxSize(), spec.ttl()));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
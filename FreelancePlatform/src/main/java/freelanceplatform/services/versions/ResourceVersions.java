@@ -0,0 +1,149 @@
+package freelanceplatform.services.versions;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import freelanceplatform.events.TaskChange;
+import freelanceplatform.model.TaskType;
+import freelanceplatform.services.cache.AfterCommit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Versions of tasks, users and task boards, turned into strong entity tags of their representations.
+ *
+ * <p>Versions are kept in a Hazelcast map shared by all instances, so a tag issued by one instance is
+ * recognized by the others and survives restarts of single instances. They are bumped by the instance that
+ * committed the change, right after the commit and before the write is acknowledged, so a tag is never
+ * answered with 304 once its resource changed. A version is a random value, and one that was never bumped
+ * reads as zero. Tags also carry the epoch of the map, drawn by the first instance of the cluster, so tags
+ * issued before a restart of the whole cluster do not match.
+ */
+@Component
+public class ResourceVersions {
+
+    public static final String MAP_NAME = "resource-versions";
+
+    private static final String EPOCH = "epoch";
+    private static final String USERS = "users";
+    private static final String BOARD = "board";
+
+    private final ConcurrentMap<String, Long> versions;
+    private final String epoch;
+
+    @Autowired
+    public ResourceVersions(HazelcastInstance hazelcastInstance) {
+        this(hazelcastInstance.<String, Long>getMap(MAP_NAME));
+    }
+
+    /**
+     * @param versions map holding the versions, shared by all instances
+     */
+    public ResourceVersions(ConcurrentMap<String, Long> versions) {
+        this.versions = versions;
+        final long drawn = nextVersion();
+        final Long existing = versions.putIfAbsent(EPOCH, drawn);
+        this.epoch = Long.toHexString(existing == null ? drawn : existing);
+    }
+
+    /**
+     * Bumps the versions of a task and of the boards it was or is on once the current transaction commits.
+     *
+     * @param change the change of the task
+     */
+    public void taskChanged(TaskChange change) {
+        final Set<TaskType> types = EnumSet.noneOf(TaskType.class);
+        if (change.previousType() == null) {
+            types.addAll(EnumSet.allOf(TaskType.class));
+        } else {
+            types.add(change.previousType());
+        }
+        if (!change.isDeleted()) types.add(change.current().getType());
+        final List<String> keys = new ArrayList<>(List.of(taskKey(change.taskId()), boardKey(null)));
+        types.forEach(type -> keys.add(boardKey(type)));
+        AfterCommit.run(() -> bump(keys));
+    }
+
+    /**
+     * Bumps the version of a user, and with it the versions of all tasks and boards, once the current
+     * transaction commits. Tasks are rendered with the usernames of their customer and freelancer.
+     *
+     * @param id id of the changed user
+     */
+    public void userChanged(Integer id) {
+        AfterCommit.run(() -> bump(List.of(userKey(id), USERS)));
+    }
+
+    /**
+     * Returns the tag of a task.
+     *
+     * @param id id of the task
+     * @return the entity tag
+     */
+    public String taskTag(Integer id) {
+        return tag("task", taskKey(id), USERS);
+    }
+
+    /**
+     * Returns the tag of a user.
+     *
+     * @param id id of the user
+     * @return the entity tag
+     */
+    public String userTag(Integer id) {
+        return tag("user", userKey(id));
+    }
+
+    /**
+     * Returns the tag of a task board.
+     *
+     * @param type type of the board or {@code null} for the board of all types
+     * @return the entity tag
+     */
+    public String boardTag(TaskType type) {
+        return tag("board", boardKey(type), USERS);
+    }
+
+    private void bump(Collection<String> keys) {
+        final Map<String, Long> bumped = new HashMap<>();
+        keys.forEach(key -> bumped.put(key, nextVersion()));
+        versions.putAll(bumped);
+    }
+
+    private String tag(String kind, String... keys) {
+        final Map<String, Long> current = read(Set.of(keys));
+        return '"' + kind + "-" + epoch + Arrays.stream(keys)
+                .map(key -> "." + Long.toHexString(current.getOrDefault(key, 0L)))
+                .collect(Collectors.joining()) + '"';
+    }
+
+    private Map<String, Long> read(Set<String> keys) {
+        if (versions instanceof IMap<String, Long> map) return map.getAll(keys);
+        final Map<String, Long> current = new HashMap<>();
+        keys.forEach(key -> {
+            final Long version = versions.get(key);
+            if (version != null) current.put(key, version);
+        });
+        return current;
+    }
+
+    private static long nextVersion() {
+        return ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+    }
+
+    private static String taskKey(Integer id) {
+        return "task:" + id;
+    }
+
+    private static String userKey(Integer id) {
+        return "user:" + id;
+    }
+
+    private static String boardKey(TaskType type) {
+        return type == null ? BOARD : BOARD + ":" + type.name();
+    }
+}
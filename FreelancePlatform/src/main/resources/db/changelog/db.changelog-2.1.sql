@@ -0,0 +1,3 @@
+UPDATE task
+SET posted_date = coalesce(assigned_date, now())
+WHERE posted_date IS NULL;
@@ -0,0 +1,11 @@
+CREATE INDEX idx_task_status_posted_date ON task (status, posted_date, id);
+
+CREATE INDEX idx_task_type_status_posted_date ON task (type, status, posted_date, id);
+
+CREATE INDEX idx_task_freelancer_deadline ON task (freelancer_id, deadline);
+
+CREATE INDEX idx_task_freelancer_status_deadline ON task (freelancer_id, status, deadline);
+
+CREATE INDEX idx_task_customer_deadline ON task (customer_id, deadline);
+
+CREATE INDEX idx_task_customer_status_deadline ON task (customer_id, status, deadline);
@@ -0,0 +1,7 @@
+ALTER TABLE task
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(problem, '')), 'B')
+    ) STORED;
+
+CREATE INDEX idx_task_search_vector ON task USING GIN (search_vector);
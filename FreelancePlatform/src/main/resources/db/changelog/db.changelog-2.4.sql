@@ -0,0 +1,31 @@
+-- Ids come from pooled sequences, so Hibernate reserves fifty ids per round trip and can batch inserts.
+-- Each sequence starts above the largest existing id and stays the column default for plain SQL inserts.
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE users_seq INCREMENT BY 50 OWNED BY users.id;
+SELECT setval('users_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM users));
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_seq');
+
+ALTER TABLE task ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE task_seq INCREMENT BY 50 OWNED BY task.id;
+SELECT setval('task_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM task));
+ALTER TABLE task ALTER COLUMN id SET DEFAULT nextval('task_seq');
+
+ALTER TABLE proposal ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE proposal_seq INCREMENT BY 50 OWNED BY proposal.id;
+SELECT setval('proposal_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM proposal));
+ALTER TABLE proposal ALTER COLUMN id SET DEFAULT nextval('proposal_seq');
+
+ALTER TABLE feedback ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE feedback_seq INCREMENT BY 50 OWNED BY feedback.id;
+SELECT setval('feedback_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM feedback));
+ALTER TABLE feedback ALTER COLUMN id SET DEFAULT nextval('feedback_seq');
+
+ALTER TABLE solution ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE solution_seq INCREMENT BY 50 OWNED BY solution.id;
+SELECT setval('solution_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM solution));
+ALTER TABLE solution ALTER COLUMN id SET DEFAULT nextval('solution_seq');
+
+ALTER TABLE resume ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE resume_seq INCREMENT BY 50 OWNED BY resume.id;
+SELECT setval('resume_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM resume));
+ALTER TABLE resume ALTER COLUMN id SET DEFAULT nextval('resume_seq');
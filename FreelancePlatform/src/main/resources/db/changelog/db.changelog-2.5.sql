@@ -0,0 +1,5 @@
+-- Resume contents move to the blob store, which keeps them as files named by their SHA-256 hash.
+-- Contents stored in the row before are moved there on startup and the column is cleared.
+ALTER TABLE resume ADD COLUMN content_hash VARCHAR(64);
+ALTER TABLE resume ADD COLUMN size BIGINT;
+ALTER TABLE resume ADD COLUMN content_type VARCHAR(255);
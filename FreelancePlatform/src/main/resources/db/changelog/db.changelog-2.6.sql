@@ -0,0 +1,4 @@
+-- The task board is ordered and paged by (posted_date, id), so every task needs a posted date.
+-- Tasks stored without one get the earliest date known of them.
+UPDATE task SET posted_date = COALESCE(assigned_date, submitted_date, now()) WHERE posted_date IS NULL;
+ALTER TABLE task ALTER COLUMN posted_date SET NOT NULL;
@@ -0,0 +1,2 @@
+-- Filtered pages without a status or types are ordered by (posted_date, id) over the whole table.
+CREATE INDEX idx_task_posted_date ON task (posted_date, id);
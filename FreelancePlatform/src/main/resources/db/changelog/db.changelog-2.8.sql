@@ -0,0 +1,2 @@
+-- Counts the committed changes of each task, so instances apply the events announcing them in order.
+ALTER TABLE task ADD COLUMN change_version BIGINT NOT NULL DEFAULT 0;
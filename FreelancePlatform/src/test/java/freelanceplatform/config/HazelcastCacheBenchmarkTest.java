@@ -0,0 +1,154 @@
+package freelanceplatform.config;
+
+import com.hazelcast.config.ClasspathYamlConfig;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.impl.SerializationServiceSupport;
+import freelanceplatform.dto.snapshot.TaskSnapshot;
+import freelanceplatform.environment.Generator;
+import freelanceplatform.model.Task;
+import freelanceplatform.model.User;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the latency of cache hits on a two-member cluster configured by {@code hazelcast.yaml}, reading
+ * entries owned by the other member through the near-cached {@code tasks} map and through a copy of it
+ * without a near cache, and the size and read cost of a cached task entity with those of its snapshot. Excluded from the default build, run it with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+public class HazelcastCacheBenchmarkTest {
+
+    private static final String NEAR_CACHED = "tasks";
+    private static final String REMOTE = "tasks-without-near-cache";
+    private static final int KEYS = 1_000;
+    private static final int ROUNDS = 20;
+
+    private static HazelcastInstance owner;
+    private static HazelcastInstance reader;
+
+    @BeforeAll
+    static void startCluster() {
+        final String clusterName = "benchmark-" + UUID.randomUUID();
+        owner = Hazelcast.newHazelcastInstance(config(clusterName));
+        reader = Hazelcast.newHazelcastInstance(config(clusterName));
+    }
+
+    @AfterAll
+    static void stopCluster() {
+        reader.shutdown();
+        owner.shutdown();
+    }
+
+    @Test
+    public void nearCacheServesRemoteHitsLocally() {
+        final List<Integer> keys = keysOwnedBy(owner);
+        final String value = "x".repeat(1_000);
+        keys.forEach(key -> {
+            owner.getMap(NEAR_CACHED).put(key, value);
+            owner.getMap(REMOTE).put(key, value);
+        });
+
+        final double remoteNanos = meanGetNanos(reader.getMap(REMOTE), keys);
+        final double nearCachedNanos = meanGetNanos(reader.getMap(NEAR_CACHED), keys);
+        System.out.printf("Cache hit latency on a two-member cluster: %.0f ns remote, %.0f ns near-cached%n",
+                remoteNanos, nearCachedNanos);
+
+        final IMap<Integer, String> nearCached = reader.getMap(NEAR_CACHED);
+        assertTrue(nearCached.getLocalMapStats().getNearCacheStats().getHits() > 0);
+        assertTrue(nearCachedNanos < remoteNanos);
+    }
+
+    @Test
+    public void nearCacheIsInvalidatedWhenOwnerChangesEntry() throws InterruptedException {
+        final Integer key = keysOwnedBy(owner).get(0);
+        final IMap<Integer, String> nearCached = reader.getMap(NEAR_CACHED);
+        owner.getMap(NEAR_CACHED).put(key, "before");
+        assertEquals("before", nearCached.get(key));
+        assertEquals("before", nearCached.get(key));
+
+        owner.getMap(NEAR_CACHED).put(key, "after");
+        final long deadline = System.currentTimeMillis() + 5_000;
+        while (!"after".equals(nearCached.get(key)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals("after", nearCached.get(key));
+    }
+
+    @Test
+    public void taskSnapshotIsSmallerAndCheaperThanTaskEntity() {
+        final Task task = Generator.generateTask();
+        task.setId(1);
+        task.setPostedDate(LocalDateTime.now());
+        final User freelancer = Generator.generateUser();
+        task.setFreelancer(freelancer);
+        for (int i = 0; i < 10; ++i) {
+            task.getCustomer().addTaskToPosted(Generator.generateTask());
+            freelancer.addTaskToTaken(Generator.generateTask());
+        }
+        final TaskSnapshot snapshot = new TaskSnapshot(task.getId(), 1, task.getCustomer().getUsername(), 2,
+                freelancer.getUsername(), task.getTitle(), task.getProblem(), task.getDeadline(), task.getPayment(),
+                task.getType(), task.getStatus(), task.getPostedDate());
+
+        final SerializationService serialization = ((SerializationServiceSupport) owner).getSerializationService();
+        final Data entityData = serialization.toData(task);
+        final Data snapshotData = serialization.toData(snapshot);
+        final double entityNanos = meanDeserializeNanos(serialization, entityData);
+        final double snapshotNanos = meanDeserializeNanos(serialization, snapshotData);
+        System.out.printf("Cached task: entity %d bytes and %.0f ns to read, snapshot %d bytes and %.0f ns to read%n",
+                entityData.totalSize(), entityNanos, snapshotData.totalSize(), snapshotNanos);
+
+        assertEquals(snapshot, serialization.toObject(snapshotData));
+        assertTrue(snapshotData.totalSize() * 5 < entityData.totalSize());
+        assertTrue(snapshotNanos < entityNanos);
+    }
+
+    private static double meanDeserializeNanos(SerializationService serialization, Data data) {
+        for (int i = 0; i < ROUNDS * 100; ++i) serialization.toObject(data);
+        final long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS * 100; ++i) serialization.toObject(data);
+        return (System.nanoTime() - start) / (double) (ROUNDS * 100);
+    }
+
+    private static Config config(String clusterName) {
+        final Config config = new ClasspathYamlConfig("hazelcast.yaml");
+        config.setClusterName(clusterName);
+        final JoinConfig join = config.getNetworkConfig().getJoin();
+        join.getMulticastConfig().setEnabled(false);
+        join.getTcpIpConfig().setEnabled(true).addMember("127.0.0.1");
+        config.addMapConfig(new MapConfig(config.getMapConfig(NEAR_CACHED)).setName(REMOTE).setNearCacheConfig(null));
+        return config;
+    }
+
+    private static List<Integer> keysOwnedBy(HazelcastInstance member) {
+        final List<Integer> keys = new ArrayList<>();
+        for (int key = 0; keys.size() < KEYS; ++key) {
+            if (member.getPartitionService().getPartition(key).getOwner().localMember()) keys.add(key);
+        }
+        return keys;
+    }
+
+    private static double meanGetNanos(IMap<Object, Object> map, List<Integer> keys) {
+        keys.forEach(map::get);
+        final long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; ++round) {
+            keys.forEach(map::get);
+        }
+        return (System.nanoTime() - start) / (double) (ROUNDS * keys.size());
+    }
+}
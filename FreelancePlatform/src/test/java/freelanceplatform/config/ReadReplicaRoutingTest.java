@@ -0,0 +1,99 @@
+package freelanceplatform.config;
+
+import freelanceplatform.data.PrimaryReads;
+import freelanceplatform.data.ReplicaRoutingDataSource;
+import freelanceplatform.utils.IntegrationTestBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the application against a primary and a replica database, two databases of the same server standing
+ * in for a replicated pair, and checks which one transactions read from.
+ */
+public class ReadReplicaRoutingTest extends IntegrationTestBase {
+
+    private static final String REPLICA = "replica";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @BeforeAll
+    static void createReplica() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())) {
+            connection.createStatement().execute("DROP DATABASE IF EXISTS " + REPLICA);
+            connection.createStatement().execute("CREATE DATABASE " + REPLICA);
+        }
+    }
+
+    @DynamicPropertySource
+    static void configureReplica(DynamicPropertyRegistry registry) {
+        registry.add("app.datasource.replicas[0].url",
+                () -> postgres.getJdbcUrl().replace("/" + postgres.getDatabaseName(), "/" + REPLICA));
+    }
+
+    @BeforeEach
+    public void checkLag() {
+        replicaRoutingDataSource.checkLag();
+    }
+
+    @AfterEach
+    public void clearSession() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void readOnlyTransactionsReadFromReplica() {
+        assertEquals(REPLICA, database(true));
+        assertEquals(postgres.getDatabaseName(), database(false));
+    }
+
+    @Test
+    public void sessionReadsItsOwnWritesFromPrimary() {
+        login("alice");
+        database(false);
+        assertEquals(postgres.getDatabaseName(), database(true));
+
+        login("bob");
+        assertEquals(REPLICA, database(true));
+    }
+
+    @Test
+    public void readsMarkedForPrimaryReadFromPrimary() {
+        assertEquals(postgres.getDatabaseName(), PrimaryReads.get(() -> database(true)));
+    }
+
+    private String database(boolean readOnly) {
+        final TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT current_database()", String.class));
+    }
+
+    private static void login(String username) {
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+    }
+}
@@ -0,0 +1,187 @@
+package freelanceplatform.controllers;
+
+import freelanceplatform.data.FeedbackRepository;
+import freelanceplatform.data.ProposalRepository;
+import freelanceplatform.data.ResumeRepository;
+import freelanceplatform.environment.Generator;
+import freelanceplatform.model.*;
+import freelanceplatform.model.security.UserDetails;
+import freelanceplatform.services.TaskService;
+import freelanceplatform.services.UserService;
+import freelanceplatform.utils.IntegrationTestBase;
+import freelanceplatform.utils.plans.StatementRecorder;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/**
+ * Counts the SELECT statements endpoints issue against users with a history of taken tasks, proposals and
+ * feedbacks, so that loading an entity never again pulls its associations one row at a time.
+ */
+public class EndpointQueryCountTest extends IntegrationTestBase {
+
+    private static final int FREELANCERS = 5;
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        static StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StatementRecorder recorder;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProposalRepository proposalRepository;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    private User customer;
+    private final List<User> freelancers = new ArrayList<>();
+    private final List<String> passwords = new ArrayList<>();
+    private final List<Task> posted = new ArrayList<>();
+    private final List<Proposal> proposals = new ArrayList<>();
+
+    @BeforeEach
+    public void init() {
+        customer = saveUser();
+        final User otherCustomer = saveUser();
+        for (int i = 0; i < FREELANCERS; i++) {
+            final User freelancer = Generator.generateUser();
+            freelancer.setRole(Role.USER);
+            passwords.add(freelancer.getPassword());
+            userService.save(freelancer);
+            freelancers.add(freelancer);
+            for (int j = 0; j < 3; j++) {
+                final Task done = saveTask(otherCustomer, TaskStatus.ACCEPTED);
+                done.setFreelancer(freelancer);
+            }
+        }
+        for (int i = 0; i < 3; i++) posted.add(saveTask(customer, TaskStatus.UNASSIGNED));
+        for (int i = 0; i < FREELANCERS; i++) {
+            final Proposal proposal = new Proposal(freelancers.get(i), posted.get(0));
+            proposalRepository.save(proposal);
+            proposals.add(proposal);
+            feedbackRepository.save(new Feedback(freelancers.get(i), freelancers.get((i + 1) % FREELANCERS), 5, "good"));
+        }
+        final Resume resume = Generator.generateResume();
+        resume.setUser(freelancers.get(0));
+        resumeRepository.save(resume);
+        final Task assigned = posted.get(2);
+        assigned.setFreelancer(freelancers.get(1));
+        assigned.setStatus(TaskStatus.ASSIGNED);
+    }
+
+    @Test
+    public void findAllUsersIssuesOneSelect() {
+        assertEquals(1, selects(get("/rest/users").accept(MediaType.APPLICATION_JSON)));
+    }
+
+    @Test
+    public void findAllProposalsIssuesOneSelect() {
+        assertEquals(1, selects(get("/rest/proposals").accept(MediaType.APPLICATION_JSON)));
+    }
+
+    @Test
+    public void findAllFeedbacksIssuesOneSelect() {
+        assertEquals(1, selects(get("/rest/feedbacks").accept(MediaType.APPLICATION_JSON)));
+    }
+
+    @Test
+    public void httpBasicAuthenticationIssuesOneSelect() {
+        assertEquals(1, selects(get("/rest/users/current")
+                .with(httpBasic(freelancers.get(2).getUsername(), passwords.get(2)))));
+    }
+
+    @Test
+    public void getResumeIssuesOneSelect() {
+        assertEquals(1, selects(get("/rest/users/myResume").with(user(new UserDetails(freelancers.get(0))))));
+    }
+
+    @Test
+    public void updateTaskReadsTaskWithPartiesOnce() {
+        assertEquals(2, selects(put("/rest/tasks/posted/" + posted.get(1).getId())
+                .with(user(new UserDetails(customer)))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"title\",\"problem\":\"problem\",\"deadline\":\"2030-01-01T10:00:00\",\"type\":\"DigitalMarketing\"}")));
+    }
+
+    @Test
+    public void assignFreelancerLoadsOnlyTaskProposalAndFreelancer() {
+        assertEquals(3, selects(post("/rest/tasks/posted/" + posted.get(0).getId() + "/proposals/" + proposals.get(3).getId())
+                .with(user(new UserDetails(customer)))));
+    }
+
+    @Test
+    public void sendOnReviewIssuesOneSelect() {
+        assertEquals(1, selects(post("/rest/tasks/taken/" + posted.get(2).getId())
+                .with(user(new UserDetails(freelancers.get(1))))));
+    }
+
+    private long selects(RequestBuilder request) {
+        entityManager.flush();
+        entityManager.clear();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        return recorder.record(() -> {
+            try {
+                final int status = mockMvc.perform(request).andReturn().getResponse().getStatus();
+                assertEquals(2, status / 100, "status " + status);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).stream().filter(statement -> statement.sql().stripLeading().regionMatches(true, 0, "select", 0, 6)).count();
+    }
+
+    private User saveUser() {
+        final User user = Generator.generateUser();
+        user.setRole(Role.USER);
+        userService.save(user);
+        return user;
+    }
+
+    private Task saveTask(User owner, TaskStatus status) {
+        final Task task = Generator.generateTask();
+        task.setCustomer(owner);
+        task.setStatus(status);
+        task.setDeadline(LocalDateTime.now().plusDays(5));
+        taskService.save(task);
+        return task;
+    }
+}
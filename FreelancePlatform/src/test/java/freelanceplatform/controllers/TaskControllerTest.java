@@ -9,20 +9,26 @@ import freelanceplatform.dto.readUpdate.TaskReadUpdate;
 import freelanceplatform.environment.Generator;
 import freelanceplatform.model.*;
 import freelanceplatform.model.security.UserDetails;
+import freelanceplatform.services.SolutionService;
 import freelanceplatform.services.TaskService;
 import freelanceplatform.services.UserService;
+import freelanceplatform.services.versions.ResourceVersions;
 import freelanceplatform.utils.IntegrationTestBase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 
@@ -41,22 +47,27 @@ public class TaskControllerTest extends IntegrationTestBase {
     private final ObjectMapper objectMapper;
     private final TaskService taskService;
     private final UserService userService;
+    private final SolutionService solutionService;
     private final Mapper mapper;
 
     private User userAdmin;
     private User emptyUser;
 
     private final CacheManager cacheManager;
+    private final ResourceVersions resourceVersions;
 
 
     @Autowired
-    public TaskControllerTest(MockMvc mockMvc, ObjectMapper objectMapper, TaskService taskService, UserService userService, Mapper mapper, CacheManager cacheManager) {
+    public TaskControllerTest(MockMvc mockMvc, ObjectMapper objectMapper, TaskService taskService, UserService userService, Mapper mapper, CacheManager cacheManager,
+                              ResourceVersions resourceVersions, SolutionService solutionService) {
         this.mockMvc = mockMvc;
         this.objectMapper = objectMapper;
         this.taskService = taskService;
         this.userService = userService;
         this.mapper = mapper;
         this.cacheManager = cacheManager;
+        this.resourceVersions = resourceVersions;
+        this.solutionService = solutionService;
     }
 
     @BeforeEach
@@ -134,6 +145,13 @@ public class TaskControllerTest extends IntegrationTestBase {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    public void getByIdReturnsNotFoundForUnknownIdDespiteMatchingETag() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/rest/tasks/-1")
+                        .header(HttpHeaders.IF_NONE_MATCH, resourceVersions.taskTag(-1)))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     public void getAllTaskBoardReturnsTasksWithStatusUnassignedAndStatusOk() throws Exception {
         final List<Task> taskBoardTasks = IntStream.range(0, 5).mapToObj(i -> {
@@ -217,6 +235,130 @@ public class TaskControllerTest extends IntegrationTestBase {
         list.forEach(taskReadUpdate -> assertEquals(taskReadUpdate.getCustomerUsername(), emptyUser.getUsername()));
     }
 
+    @Test
+    public void getAllTakenWithStatusSeparatesExpiredTasks() throws Exception {
+        final Task expired = saveTask(userAdmin, emptyUser, TaskStatus.ASSIGNED, LocalDateTime.now().minusDays(1));
+        final Task pending = saveTask(userAdmin, emptyUser, TaskStatus.ASSIGNED, LocalDateTime.now().plusDays(1));
+        saveTask(userAdmin, emptyUser, TaskStatus.SUBMITTED, LocalDateTime.now().minusDays(1));
+
+        assertEquals(List.of(expired.getId()), taskIds("/rest/tasks/taken", TaskStatus.ASSIGNED, true));
+        assertEquals(List.of(pending.getId()), taskIds("/rest/tasks/taken", TaskStatus.ASSIGNED, false));
+    }
+
+    @Test
+    public void getAllPostedWithStatusSeparatesExpiredTasks() throws Exception {
+        final Task expired = saveTask(emptyUser, null, TaskStatus.UNASSIGNED, LocalDateTime.now().minusDays(1));
+        final Task pending = saveTask(emptyUser, null, TaskStatus.UNASSIGNED, LocalDateTime.now().plusDays(1));
+        saveTask(emptyUser, userAdmin, TaskStatus.ASSIGNED, LocalDateTime.now().minusDays(1));
+
+        assertEquals(List.of(expired.getId()), taskIds("/rest/tasks/posted", TaskStatus.UNASSIGNED, true));
+        assertEquals(List.of(pending.getId()), taskIds("/rest/tasks/posted", TaskStatus.UNASSIGNED, false));
+    }
+
+    @Test
+    public void getAllPostedWithoutStatusReturnsTasksOfAllStatuses() throws Exception {
+        final Task unassigned = saveTask(emptyUser, null, TaskStatus.UNASSIGNED, LocalDateTime.now().plusDays(1));
+        final Task assigned = saveTask(emptyUser, userAdmin, TaskStatus.ASSIGNED, LocalDateTime.now().plusDays(2));
+        saveTask(emptyUser, null, TaskStatus.UNASSIGNED, LocalDateTime.now().minusDays(1));
+
+        assertEquals(Set.of(unassigned.getId(), assigned.getId()), Set.copyOf(taskIds("/rest/tasks/posted", null, false)));
+    }
+
+    private Task saveTask(User customer, User freelancer, TaskStatus status, LocalDateTime deadline) {
+        final Task task = Generator.generateTask();
+        task.setCustomer(customer);
+        task.setFreelancer(freelancer);
+        task.setStatus(status);
+        task.setDeadline(deadline);
+        return taskService.save(task);
+    }
+
+    private List<Integer> taskIds(String path, TaskStatus status, boolean expired) throws Exception {
+        final MockHttpServletRequestBuilder request = MockMvcRequestBuilders.get(path)
+                .with(user(new UserDetails(emptyUser)))
+                .param("expired", String.valueOf(expired));
+        if (status != null) request.param("taskStatus", status.name());
+        final String jsonContent = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        final List<TaskReadUpdate> tasks = objectMapper.readValue(jsonContent, new TypeReference<>() {
+        });
+        return tasks.stream().map(TaskReadUpdate::getId).toList();
+    }
+
+    @Test
+    public void searchReturnsMatchingTasksPageByPageMostRelevantFirst() throws Exception {
+        final List<String> titles = List.of("Spring kafka consumer", "Logo design", "Kafka kafka cluster tuning");
+        final List<Task> tasks = titles.stream().map(title -> {
+            final Task task = Generator.generateTask();
+            task.setTitle(title);
+            task.setProblem("nothing to see here");
+            task.setCustomer(emptyUser);
+            return task;
+        }).toList();
+        taskService.saveAll(tasks);
+
+        final MvcResult firstPage = mockMvc.perform(MockMvcRequestBuilders.get("/rest/tasks/search")
+                        .param("q", "kafka")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title", equalTo("Kafka kafka cluster tuning")))
+                .andReturn();
+        final String cursor = firstPage.getResponse().getHeader(TaskController.NEXT_CURSOR_HEADER);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/rest/tasks/search")
+                        .param("q", "kafka")
+                        .param("limit", "1")
+                        .param("after", Objects.requireNonNull(cursor)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title", equalTo("Spring kafka consumer")));
+    }
+
+    @Test
+    public void filterCombinesTypesPaymentAndDeadlineRanges() throws Exception {
+        final LocalDateTime farFuture = LocalDateTime.now().plusYears(10);
+        final Task first = filterTask(TaskType.GamingAndVrArDevelopment, 1_000_100.0, farFuture.plusDays(1));
+        final Task second = filterTask(TaskType.TutoringAndEducation, 1_000_200.0, farFuture.plusDays(2));
+        taskService.saveAll(List.of(first, second,
+                filterTask(TaskType.GamingAndVrArDevelopment, 2_000_000.0, farFuture.plusDays(1)),
+                filterTask(TaskType.DigitalMarketing, 1_000_150.0, farFuture.plusDays(1)),
+                filterTask(TaskType.TutoringAndEducation, 1_000_300.0, LocalDateTime.now().plusMonths(1))));
+
+        final MvcResult firstPage = mockMvc.perform(MockMvcRequestBuilders.get("/rest/tasks/filter")
+                        .param("types", TaskType.GamingAndVrArDevelopment.name(), TaskType.TutoringAndEducation.name())
+                        .param("minPayment", "1000000")
+                        .param("maxPayment", "1500000")
+                        .param("deadlineAfter", farFuture.toString())
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", equalTo(1)))
+                .andExpect(jsonPath("$[0].id", equalTo(second.getId())))
+                .andReturn();
+        final String cursor = firstPage.getResponse().getHeader(TaskController.NEXT_CURSOR_HEADER);
+
+        final MvcResult secondPage = mockMvc.perform(MockMvcRequestBuilders.get("/rest/tasks/filter")
+                        .param("types", TaskType.GamingAndVrArDevelopment.name(), TaskType.TutoringAndEducation.name())
+                        .param("minPayment", "1000000")
+                        .param("maxPayment", "1500000")
+                        .param("deadlineAfter", farFuture.toString())
+                        .param("limit", "1")
+                        .param("after", Objects.requireNonNull(cursor)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", equalTo(1)))
+                .andExpect(jsonPath("$[0].id", equalTo(first.getId())))
+                .andReturn();
+        assertEquals(null, secondPage.getResponse().getHeader(TaskController.NEXT_CURSOR_HEADER));
+    }
+
+    private Task filterTask(TaskType type, double payment, LocalDateTime deadline) {
+        final Task task = Generator.generateTask();
+        task.setType(type);
+        task.setPayment(payment);
+        task.setDeadline(deadline);
+        task.setCustomer(emptyUser);
+        return task;
+    }
+
     @Test
     public void updateReturnsNotFoundForWrongId() throws Exception {
         Task task = taskService.findById(1).orElse(null);
@@ -376,7 +518,9 @@ public class TaskControllerTest extends IntegrationTestBase {
         Task task = taskService.findById(1).orElse(null);
         Objects.requireNonNull(task);
         task.setCustomer(emptyUser);
-        task.setSolution(Generator.generateSolution());
+        final Solution solution = Generator.generateSolution();
+        solution.setTask(task);
+        task.setSolution(solutionService.save(solution));
         taskService.save(task);
         mockMvc.perform(post("/rest/tasks/posted/1/accept")
                         .with(user(new UserDetails(emptyUser))))
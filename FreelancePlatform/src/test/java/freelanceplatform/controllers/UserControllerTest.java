@@ -1,32 +1,51 @@
 package freelanceplatform.controllers;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import freelanceplatform.controllers.util.BlobWriter;
+import freelanceplatform.controllers.util.NdjsonWriter;
 import freelanceplatform.dto.Mapper;
 import freelanceplatform.dto.creation.UserCreation;
 import freelanceplatform.dto.readUpdate.UserReadUpdate;
+import freelanceplatform.dto.snapshot.UserSnapshot;
 import freelanceplatform.environment.Generator;
+import freelanceplatform.model.Resume;
 import freelanceplatform.model.User;
 import freelanceplatform.model.security.UserDetails;
 import freelanceplatform.services.UserService;
+import freelanceplatform.services.blob.LocalFileBlobStore;
+import freelanceplatform.services.blob.StoredBlob;
+import freelanceplatform.services.versions.ResourceVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,9 +56,21 @@ public class UserControllerTest extends BaseControllerTest{
     @Mock
     private Mapper mapper;
 
+    @Spy
+    private NdjsonWriter ndjsonWriter = new NdjsonWriter(new ObjectMapper());
+
+    @Spy
+    private ResourceVersions resourceVersions = new ResourceVersions(new ConcurrentHashMap<>());
+
+    @Spy
+    private BlobWriter blobWriter = new BlobWriter();
+
     @InjectMocks
     private UserController sut;
 
+    @TempDir
+    Path blobRoot;
+
     @BeforeEach
     public void setUp() {
         super.setUp(sut);
@@ -62,6 +93,65 @@ public class UserControllerTest extends BaseControllerTest{
         verify(userServiceMock).findAll();
     }
 
+    @Test
+    public void getAllStreamsUsersAsNdjsonWhenRequested() throws Exception {
+        doAnswer(invocation -> {
+            final Consumer<UserReadUpdate> consumer = invocation.getArgument(0);
+            for (int i = 0; i < 3; ++i) {
+                consumer.accept(UserReadUpdate.builder().id(i).username("user" + i).build());
+            }
+            return null;
+        }).when(userServiceMock).streamAll(any());
+
+        final MvcResult asyncResult = mockMvc.perform(get("/rest/users").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        final MvcResult mvcResult = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        final String[] lines = mvcResult.getResponse().getContentAsString().split("\n");
+        assertEquals(3, lines.length);
+        for (int i = 0; i < lines.length; ++i) {
+            assertEquals("user" + i, objectMapper.readValue(lines[i], UserReadUpdate.class).getUsername());
+        }
+        verify(userServiceMock, never()).findAll();
+    }
+
+    @Test
+    public void getByIdAnswersNotModifiedUntilUserChanges() throws Exception {
+        final User user = Generator.generateUser();
+        user.setId(1);
+        final UserSnapshot snapshot = new UserSnapshot(1, user.getUsername(), user.getFirstName(), user.getLastName(),
+                user.getEmail(), user.getRating(), user.getRole());
+        when(userServiceMock.findSnapshotById(1)).thenReturn(Optional.of(snapshot));
+        when(mapper.toReadUser(snapshot)).thenReturn(UserReadUpdate.builder().id(1).username(user.getUsername()).build());
+
+        final String etag = mockMvc.perform(get("/rest/users/1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        mockMvc.perform(get("/rest/users/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        verify(mapper, times(1)).toReadUser(snapshot);
+
+        resourceVersions.userChanged(1);
+        mockMvc.perform(get("/rest/users/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        verify(mapper, times(2)).toReadUser(snapshot);
+    }
+
+    @Test
+    public void getByIdAnswersNotFoundForUnknownUserDespiteMatchingETag() throws Exception {
+        when(userServiceMock.findSnapshotById(1)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/rest/users/1").header(HttpHeaders.IF_NONE_MATCH, resourceVersions.userTag(1)))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     public void registerSavesByUsingUserService() throws Exception {
         final User user = Generator.generateUser();
@@ -114,4 +204,57 @@ public class UserControllerTest extends BaseControllerTest{
                 .andExpect(status().isOk());
         verify(userServiceMock).update(any(User.class));
     }
+
+    @Test
+    public void getResumeContentSendsWholeContentOrRequestedRange() throws Exception {
+        final Authentication authMock = resumeOwner("0123456789");
+
+        mockMvc.perform(get("/rest/users/myResume/content").principal(authMock))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"resume.pdf\""))
+                .andExpect(content().contentType(MediaType.APPLICATION_PDF))
+                .andExpect(content().string("0123456789"));
+        mockMvc.perform(get("/rest/users/myResume/content").principal(authMock)
+                        .header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(content().string("2345"));
+        mockMvc.perform(get("/rest/users/myResume/content").principal(authMock)
+                        .header(HttpHeaders.RANGE, "bytes=20-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+    }
+
+    @Test
+    public void getResumeContentAnswersNotModifiedForCurrentETag() throws Exception {
+        final Authentication authMock = resumeOwner("0123456789");
+
+        final String etag = mockMvc.perform(get("/rest/users/myResume/content").principal(authMock))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        mockMvc.perform(get("/rest/users/myResume/content").principal(authMock)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    private Authentication resumeOwner(String content) throws Exception {
+        final LocalFileBlobStore blobStore = new LocalFileBlobStore(blobRoot);
+        final StoredBlob blob = blobStore.put(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        final User user = Generator.generateUser();
+        final Resume resume = new Resume();
+        resume.setFilename("resume.pdf");
+        resume.setContentHash(blob.key());
+        resume.setSize(blob.size());
+        resume.setContentType(MediaType.APPLICATION_PDF_VALUE);
+
+        final Authentication authMock = mock(Authentication.class);
+        final UserDetails userDetailsMock = mock(UserDetails.class);
+        when(authMock.getPrincipal()).thenReturn(userDetailsMock);
+        when(userDetailsMock.getUser()).thenReturn(user);
+        when(userServiceMock.getUsersResume(user)).thenReturn(resume);
+        when(userServiceMock.openResumeContent(resume)).thenAnswer(invocation -> blobStore.get(blob.key()).orElseThrow());
+        return authMock;
+    }
 }
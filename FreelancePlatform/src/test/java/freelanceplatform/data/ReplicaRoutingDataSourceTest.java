@@ -0,0 +1,141 @@
+package freelanceplatform.data;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ReplicaRoutingDataSourceTest {
+
+    private final Map<Connection, String> names = new HashMap<>();
+    private final Map<DataSource, Duration> lags = new HashMap<>();
+    private final Set<String> writers = new HashSet<>();
+    private DataSource first;
+    private DataSource second;
+    private String session;
+    private ReplicaRoutingDataSource sut;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        final Map<String, DataSource> replicas = new LinkedHashMap<>();
+        first = dataSource("first");
+        second = dataSource("second");
+        replicas.put("first", first);
+        replicas.put("second", second);
+        sut = new ReplicaRoutingDataSource(dataSource("primary"), replicas, Duration.ofSeconds(1), Duration.ofSeconds(1), () -> session,
+                new ReplicaRoutingDataSource.WriterSessions() {
+                    @Override
+                    public void add(String session, Duration timeToLive) {
+                        assertEquals(Duration.ofSeconds(2), timeToLive);
+                        writers.add(session);
+                    }
+
+                    @Override
+                    public boolean contains(String session) {
+                        return writers.contains(session);
+                    }
+                }) {
+            @Override
+            protected Duration measureLag(DataSource replica) throws SQLException {
+                if (!lags.containsKey(replica)) throw new SQLException("Connection refused");
+                return lags.get(replica);
+            }
+        };
+        lags.put(first, Duration.ZERO);
+        lags.put(second, Duration.ofMillis(200));
+        sut.checkLag();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    public void readOnlyTransactionsAreSpreadOverReplicas() throws SQLException {
+        assertEquals(List.of("first", "second", "first", "second"), List.of(target(), target(), target(), target()));
+    }
+
+    @Test
+    public void otherConnectionsUsePrimary() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+        assertEquals("primary", target());
+    }
+
+    @Test
+    public void replicasBehindLagBoundOrNotAnsweringAreSkipped() throws SQLException {
+        lags.put(second, Duration.ofSeconds(5));
+        sut.checkLag();
+        assertEquals(List.of("first", "first"), List.of(target(), target()));
+
+        lags.remove(first);
+        sut.checkLag();
+        assertEquals("primary", target());
+
+        lags.put(first, Duration.ZERO);
+        sut.checkLag();
+        assertEquals("first", target());
+    }
+
+    @Test
+    public void sessionThatWroteReadsFromPrimary() throws SQLException {
+        session = "alice";
+        sut.recordWrite();
+
+        assertEquals("primary", target());
+        session = "bob";
+        assertNotEquals("primary", target());
+        session = null;
+        assertNotEquals("primary", target());
+    }
+
+    @Test
+    public void readsMarkedForPrimaryUsePrimary() throws Exception {
+        assertEquals("primary", PrimaryReads.call(this::target));
+        assertNotEquals("primary", target());
+    }
+
+    @Test
+    public void transactionsReadingFromReplicaAreMarked() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            PrimaryReads.call(this::target);
+            assertFalse(ReplicaRoutingDataSource.isCurrentTransactionOnReplica());
+            target();
+            assertTrue(ReplicaRoutingDataSource.isCurrentTransactionOnReplica());
+        } finally {
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(0));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertFalse(ReplicaRoutingDataSource.isCurrentTransactionOnReplica());
+    }
+
+    private String target() throws SQLException {
+        return names.get(sut.getConnection());
+    }
+
+    private DataSource dataSource(String name) throws SQLException {
+        final DataSource dataSource = mock(DataSource.class);
+        final Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        names.put(connection, name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,82 @@
+package freelanceplatform.data;
+
+import freelanceplatform.environment.Generator;
+import freelanceplatform.model.Role;
+import freelanceplatform.model.Task;
+import freelanceplatform.model.User;
+import freelanceplatform.utils.IntegrationTestBase;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures the throughput of inserting 100k tasks through {@link TaskRepository#saveAll} in chunks of a thousand,
+ * the way an import writes them, and checks that ids come from pooled sequences and inserts are sent in JDBC
+ * batches instead of one statement per row. Excluded from the default build, run it with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@TestPropertySource(properties = "spring.jpa.show-sql=false")
+public class TaskBulkInsertBenchmarkTest extends IntegrationTestBase {
+
+    private static final int TASKS = 100_000;
+    private static final int CHUNK = 1_000;
+
+    @Autowired
+    private TaskRepository taskRepo;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private SessionFactory sessionFactory;
+
+    @Test
+    public void bulkInsertIsBatched() {
+        final User customer = Generator.generateUser();
+        customer.setRole(Role.USER);
+        userRepo.save(customer);
+        entityManager.flush();
+        final long before = taskRepo.count();
+        final Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        final long start = System.nanoTime();
+        for (int inserted = 0; inserted < TASKS; inserted += CHUNK) {
+            final User reference = entityManager.getReference(User.class, customer.getId());
+            final List<Task> tasks = new ArrayList<>(CHUNK);
+            for (int i = 0; i < CHUNK; i++) {
+                final Task task = Generator.generateTask();
+                task.setCustomer(reference);
+                task.setPostedDate(LocalDateTime.now());
+                tasks.add(task);
+            }
+            taskRepo.saveAll(tasks);
+            entityManager.flush();
+            entityManager.clear();
+        }
+        final double seconds = (System.nanoTime() - start) / 1e9;
+        final long statements = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+        System.out.printf("Inserted %d tasks in %.1f s, %.0f tasks/s, %d statements prepared%n",
+                TASKS, seconds, TASKS / seconds, statements);
+
+        assertEquals(before + TASKS, taskRepo.count());
+        // one sequence call per fifty ids plus one insert statement per flush
+        assertTrue(statements <= TASKS / 50 + TASKS / CHUNK, "statements " + statements);
+    }
+}
@@ -0,0 +1,186 @@
+package freelanceplatform.data;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import freelanceplatform.dto.paging.TaskBoardCursor;
+import freelanceplatform.model.TaskStatus;
+import freelanceplatform.model.TaskType;
+import freelanceplatform.utils.IntegrationTestBase;
+import freelanceplatform.utils.plans.StatementRecorder;
+import freelanceplatform.utils.plans.StatementRecorder.RecordedStatement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs EXPLAIN for the SQL that every {@link TaskRepository} query issues against a large generated
+ * dataset and fails when any of them is planned as a sequential scan of the task table. Users are only
+ * joined by primary key, so the planner is free to hash join them.
+ */
+public class TaskRepositoryQueryPlanTest extends IntegrationTestBase {
+
+    private static final int USERS = 2_000;
+    private static final int TASKS = 200_000;
+    private static final String TASK_TABLE = "task";
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        static StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+    }
+
+    @Autowired
+    private TaskRepository taskRepo;
+
+    @Autowired
+    private StatementRecorder recorder;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Integer userId;
+
+    @BeforeEach
+    public void generateDataset() {
+        jdbcTemplate.update("""
+                INSERT INTO users (username, first_name, last_name, email, password, rating, role)
+                SELECT 'plan_user_' || g, 'first', 'last', 'plan_user_' || g || '@example.com', 'password', 0, 'USER'
+                FROM generate_series(1, ?) g""", USERS);
+        final String types = Arrays.stream(TaskType.values())
+                .map(type -> "'" + type.name() + "'")
+                .collect(Collectors.joining(", "));
+        // Mostly finished work with a thin board of unassigned tasks, like a long-running platform
+        jdbcTemplate.update("""
+                WITH plan_users AS (SELECT array_agg(id) AS ids FROM users WHERE username LIKE 'plan_user_%%')
+                INSERT INTO task (customer_id, freelancer_id, title, problem, deadline, status, type, payment, posted_date)
+                SELECT ids[1 + g %% %1$d],
+                       CASE WHEN g %% 100 < 2 THEN NULL ELSE ids[1 + (g * 7) %% %1$d] END,
+                       'title ' || g || ' ' || md5(g::text), 'problem ' || g,
+                       now() + ((g %% 60) - 30) * interval '1 day',
+                       CASE WHEN g %% 100 < 2 THEN 'UNASSIGNED'
+                            WHEN g %% 100 < 5 THEN 'ASSIGNED'
+                            WHEN g %% 100 < 7 THEN 'SUBMITTED'
+                            ELSE 'ACCEPTED' END,
+                       (ARRAY[%2$s])[1 + g %% %3$d],
+                       g %% 1000,
+                       now() - g * interval '1 minute'
+                FROM plan_users, generate_series(1, ?) g""".formatted(USERS, types, TaskType.values().length), TASKS);
+        jdbcTemplate.execute("ANALYZE users");
+        jdbcTemplate.execute("ANALYZE task");
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'plan_user_1'", Integer.class);
+    }
+
+    @Test
+    public void repositoryQueriesDoNotFallBackToSequentialScans() throws Exception {
+        final TaskStatus board = TaskStatus.UNASSIGNED;
+        final TaskType type = TaskType.ProgrammingAndDevelopment;
+        final TaskBoardCursor position = new TaskBoardCursor(LocalDateTime.now().minusDays(30), 100);
+        final LocalDateTime now = LocalDateTime.now();
+        final TaskFilter allBoard = TaskFilter.board(null);
+        final TaskFilter typeBoard = TaskFilter.board(type);
+        final TaskFilter unfiltered = TaskFilter.builder().build();
+        final TaskFilter typesOfAnyStatus = TaskFilter.builder().types(Set.of(type, TaskType.DigitalMarketing)).build();
+        final TaskFilter taken = TaskFilter.builder().freelancerId(userId).deadlineAfter(now).build();
+        final TaskFilter takenExpiredWithStatus = TaskFilter.builder().freelancerId(userId).status(TaskStatus.ASSIGNED).deadlineBefore(now).build();
+        final TaskFilter posted = TaskFilter.builder().customerId(userId).deadlineBefore(now).build();
+        final TaskFilter postedWithStatus = TaskFilter.builder().customerId(userId).status(TaskStatus.ACCEPTED).deadlineAfter(now).build();
+        final TaskFilter ranges = TaskFilter.builder()
+                .types(Set.of(type, TaskType.DigitalMarketing))
+                .status(board)
+                .minPayment(100.0)
+                .maxPayment(500.0)
+                .deadlineAfter(now)
+                .deadlineBefore(now.plusDays(30))
+                .build();
+
+        final Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("boardFromNewest", () -> taskRepo.findFiltered(allBoard, true, null, null));
+        queries.put("boardByTypeFromOldest", () -> taskRepo.findFiltered(typeBoard, false, null, null));
+        queries.put("boardPageFromNewest", () -> taskRepo.findFiltered(allBoard, true, null, 21));
+        queries.put("boardPageFromOldest", () -> taskRepo.findFiltered(allBoard, false, null, 21));
+        queries.put("boardPageOlderThan", () -> taskRepo.findFiltered(allBoard, true, position, 21));
+        queries.put("boardPageNewerThan", () -> taskRepo.findFiltered(allBoard, false, position, 21));
+        queries.put("boardByTypePageFromNewest", () -> taskRepo.findFiltered(typeBoard, true, null, 21));
+        queries.put("boardByTypePageOlderThan", () -> taskRepo.findFiltered(typeBoard, true, position, 21));
+        queries.put("boardByTypePageNewerThan", () -> taskRepo.findFiltered(typeBoard, false, position, 21));
+        queries.put("unfilteredPageFromNewest", () -> taskRepo.findFiltered(unfiltered, true, null, 21));
+        queries.put("unfilteredPageOlderThan", () -> taskRepo.findFiltered(unfiltered, true, position, 21));
+        queries.put("unfilteredPageNewerThan", () -> taskRepo.findFiltered(unfiltered, false, position, 21));
+        queries.put("typesOfAnyStatusPageFromNewest", () -> taskRepo.findFiltered(typesOfAnyStatus, true, null, 21));
+        queries.put("takenDeadlineNotExpired", () -> taskRepo.findFiltered(taken, true, null, null));
+        queries.put("takenByStatusDeadlineExpired", () -> taskRepo.findFiltered(takenExpiredWithStatus, true, null, null));
+        queries.put("postedDeadlineExpired", () -> taskRepo.findFiltered(posted, true, null, null));
+        queries.put("postedByStatusDeadlineNotExpired", () -> taskRepo.findFiltered(postedWithStatus, true, null, null));
+        queries.put("typesPaymentAndDeadlineRangesPage", () -> taskRepo.findFiltered(ranges, true, position, 21));
+        queries.put("search", () -> taskRepo.search("title 42", null, null, null, null, 21));
+        queries.put("searchByTypeAndStatusAfter",
+                () -> taskRepo.search("title 42", type.name(), board.name(), 0.5f, 100, 21));
+        queries.put("findAllByIdIn", () -> taskRepo.findAllByIdIn(List.of(1, 2, 3)));
+
+        final List<String> offenders = new ArrayList<>();
+        for (Map.Entry<String, Runnable> query : queries.entrySet()) {
+            for (String scan : sequentialScans(recorder.record(query.getValue()))) {
+                offenders.add(query.getKey() + ": " + scan);
+            }
+        }
+        assertTrue(offenders.isEmpty(), "Queries planned as sequential scans:\n" + String.join("\n", offenders));
+    }
+
+    @Test
+    public void harnessReportsSequentialScanOfWholeTable() throws Exception {
+        assertFalse(sequentialScans(recorder.record(taskRepo::findAll)).isEmpty());
+    }
+
+    /**
+     * Explains each distinct statement with its recorded parameters and collects its sequential scans.
+     *
+     * @param statements the recorded statements
+     * @return descriptions of the sequential scans found in the plans
+     */
+    private List<String> sequentialScans(List<RecordedStatement> statements) throws Exception {
+        final Map<String, RecordedStatement> distinct = new LinkedHashMap<>();
+        statements.forEach(statement -> distinct.putIfAbsent(statement.sql(), statement));
+
+        final List<String> scans = new ArrayList<>();
+        final Connection connection = DataSourceUtils.getConnection(dataSource);
+        for (RecordedStatement statement : distinct.values()) {
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + statement.sql())) {
+                statement.bindTo(explain);
+                try (ResultSet plan = explain.executeQuery()) {
+                    plan.next();
+                    collectSequentialScans(objectMapper.readTree(plan.getString(1)).get(0).get("Plan"), statement.sql(), scans);
+                }
+            }
+        }
+        return scans;
+    }
+
+    private void collectSequentialScans(JsonNode node, String sql, List<String> scans) {
+        if ("Seq Scan".equals(node.path("Node Type").asText()) && TASK_TABLE.equals(node.path("Relation Name").asText())) {
+            scans.add("Seq Scan on " + node.path("Relation Name").asText() + " in " + sql);
+        }
+        node.path("Plans").forEach(child -> collectSequentialScans(child, sql, scans));
+    }
+}
@@ -67,12 +67,10 @@ public class Generator {
 
     public static Resume generateResume() {
         final Resume resume = new Resume();
-        byte[] content = new byte[1024];
-        for (int i = 0; i < content.length; i++) {
-            content[i] = (byte) randomInt();
-        }
         resume.setFilename("resume");
-        resume.setContent(content);
+        resume.setContentHash(String.format("%064x", randomInt()));
+        resume.setSize(1024L);
+        resume.setContentType("application/pdf");
         return resume;
     }
 
@@ -0,0 +1,85 @@
+package freelanceplatform.security;
+
+import freelanceplatform.environment.Generator;
+import freelanceplatform.events.UserChange;
+import freelanceplatform.model.Role;
+import freelanceplatform.model.User;
+import freelanceplatform.model.security.UserDetails;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class CachingAuthenticationProviderTest {
+
+    private AuthenticationProvider delegate;
+    private CachingAuthenticationProvider sut;
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        user = Generator.generateUser();
+        user.setId(7);
+        user.setRole(Role.USER);
+        delegate = mock(AuthenticationProvider.class);
+        when(delegate.authenticate(any())).thenAnswer(invocation -> {
+            final Authentication request = invocation.getArgument(0);
+            if (!"secret".equals(request.getCredentials())) throw new BadCredentialsException("Bad credentials");
+            final UserDetails details = new UserDetails(user);
+            return UsernamePasswordAuthenticationToken.authenticated(details, request.getCredentials(), details.getAuthorities());
+        });
+        sut = new CachingAuthenticationProvider(delegate, Duration.ofMinutes(5), 100);
+    }
+
+    @Test
+    public void authenticateVerifiesRepeatedCredentialsOnce() {
+        final Authentication first = sut.authenticate(request("secret"));
+        final Authentication second = sut.authenticate(request("secret"));
+
+        verify(delegate, times(1)).authenticate(any());
+        assertTrue(second.isAuthenticated());
+        final User principal = ((UserDetails) second.getPrincipal()).getUser();
+        assertEquals(user.getId(), principal.getId());
+        assertEquals(user.getRole(), principal.getRole());
+        assertNotSame(((UserDetails) first.getPrincipal()).getUser(), principal);
+        assertEquals(first.getAuthorities(), second.getAuthorities());
+    }
+
+    @Test
+    public void authenticateVerifiesDifferentPasswordAgain() {
+        sut.authenticate(request("secret"));
+
+        assertThrows(BadCredentialsException.class, () -> sut.authenticate(request("wrong")));
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    public void onUserChangeForgetsCredentialsOfTheUser() {
+        sut.authenticate(request("secret"));
+        sut.onUserChange(new UserChange(user.getId()));
+        sut.authenticate(request("secret"));
+
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    public void authenticateVerifiesExpiredCredentialsAgain() {
+        sut = new CachingAuthenticationProvider(delegate, Duration.ZERO, 100);
+        sut.authenticate(request("secret"));
+        sut.authenticate(request("secret"));
+
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    private UsernamePasswordAuthenticationToken request(String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(user.getUsername(), password);
+    }
+}
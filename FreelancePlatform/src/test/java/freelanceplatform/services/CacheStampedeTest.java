@@ -0,0 +1,110 @@
+package freelanceplatform.services;
+
+import freelanceplatform.data.TaskRepository;
+import freelanceplatform.data.UserRepository;
+import freelanceplatform.utils.IntegrationTestBase;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Lets many callers miss the same cache entry at once and counts the statements sent to the database, once with
+ * a plain get-then-load cache lookup and once through the services.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class CacheStampedeTest extends IntegrationTestBase {
+
+    private static final int CALLERS = 32;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskRepository taskRepo;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    public void concurrentMissesOfTaskAreLoadedOnce() throws Exception {
+        final Cache cache = Objects.requireNonNull(cacheManager.getCache("tasks"));
+
+        cache.evict(1);
+        final CountDownLatch missed = new CountDownLatch(CALLERS);
+        assertEquals(CALLERS, statementsDuring(() -> {
+            if (cache.get(1) == null) cache.put(1, afterAllMissed(missed, () -> taskRepo.findSnapshotById(1)));
+        }));
+
+        cache.evict(1);
+        assertEquals(1, statementsDuring(() -> taskService.findSnapshotById(1)));
+    }
+
+    @Test
+    public void concurrentMissesOfUserAreLoadedOnce() throws Exception {
+        final Cache cache = Objects.requireNonNull(cacheManager.getCache("users"));
+
+        cache.evict(1);
+        final CountDownLatch missed = new CountDownLatch(CALLERS);
+        assertEquals(CALLERS, statementsDuring(() -> {
+            if (cache.get(1) == null) cache.put(1, afterAllMissed(missed, () -> userRepo.findSnapshotById(1)));
+        }));
+
+        cache.evict(1);
+        assertEquals(1, statementsDuring(() -> userService.findSnapshotById(1)));
+    }
+
+    /**
+     * Holds back the load of an unguarded caller until every caller missed the entry, so none of them finds
+     * an entry loaded by another.
+     */
+    private static <T> T afterAllMissed(CountDownLatch missed, Callable<T> load) {
+        missed.countDown();
+        try {
+            if (!missed.await(30, TimeUnit.SECONDS)) throw new IllegalStateException("Not every caller missed");
+            return load.call();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long statementsDuring(Runnable call) throws Exception {
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        final ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        try {
+            final CyclicBarrier start = new CyclicBarrier(CALLERS);
+            final List<Future<Object>> results = IntStream.range(0, CALLERS)
+                    .mapToObj(i -> callers.submit(() -> {
+                        start.await();
+                        call.run();
+                        return null;
+                    }))
+                    .toList();
+            for (Future<Object> result : results) result.get(30, TimeUnit.SECONDS);
+        } finally {
+            callers.shutdown();
+        }
+        return statistics.getPrepareStatementCount();
+    }
+}
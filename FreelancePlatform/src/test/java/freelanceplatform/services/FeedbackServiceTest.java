@@ -38,7 +38,9 @@ class FeedbackServiceTest extends CacheableTestBase {
 
         Feedback feedbackById = feedbackService.findById(id).orElseThrow(IllegalArgumentException::new);
         Assertions.assertThat(feedbackById.getSender().getEmail()).isEqualTo("user5@example.com");
+        assertFalse(Optional.ofNullable(cacheManager.getCache(cacheName).get(id)).isPresent());
 
+        feedbackService.findSnapshotById(id);
         assertTrue(Optional.ofNullable(cacheManager.getCache(cacheName).get(id)).isPresent());
     }
 
@@ -60,8 +62,10 @@ class FeedbackServiceTest extends CacheableTestBase {
         String comment = "test233";
         feedback.setComment(comment);
 
+        feedbackService.findSnapshotById(id);
         feedbackService.update(feedback);
-        assertEquals(feedbackService.findById(id).get().getComment(), comment);
+        assertFalse(Optional.ofNullable(cacheManager.getCache(cacheName).get(id)).isPresent());
+        assertEquals(feedbackService.findSnapshotById(id).get().comment(), comment);
 
         assertTrue(Optional.ofNullable(cacheManager.getCache(cacheName).get(id)).isPresent());
     }
@@ -54,6 +54,8 @@ public class ProposalServiceTest extends CacheableTestBase {
         assertTrue(foundProposal.isPresent());
         assertEquals(savedProposal.getId(), foundProposal.get().getId());
 
+        assertFalse(Optional.ofNullable(cacheManager.getCache(cacheName).get(savedProposal.getId())).isPresent());
+        assertEquals(task.getId(), proposalService.findSnapshotById(savedProposal.getId()).orElseThrow().taskId());
         assertTrue(Optional.ofNullable(cacheManager.getCache(cacheName).get(savedProposal.getId())).isPresent());
     }
 
@@ -66,6 +68,7 @@ public class ProposalServiceTest extends CacheableTestBase {
         assertTrue(foundProposal.isPresent());
         assertEquals(id, foundProposal.get().getId());
 
+        proposalService.findSnapshotById(id);
         assertTrue(Optional.ofNullable(cacheManager.getCache(cacheName).get(id)).isPresent());
     }
 
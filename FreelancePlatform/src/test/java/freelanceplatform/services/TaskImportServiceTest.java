@@ -0,0 +1,106 @@
+package freelanceplatform.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import freelanceplatform.dto.readUpdate.TaskImportReport;
+import freelanceplatform.model.Task;
+import freelanceplatform.model.TaskType;
+import freelanceplatform.model.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class TaskImportServiceTest {
+
+    private static final String DEADLINE = "2099-01-01T10:00:00";
+
+    private TaskService taskService;
+    private TaskImportService sut;
+    private final List<List<Task>> chunks = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        taskService = mock(TaskService.class);
+        doAnswer(invocation -> chunks.add(List.copyOf(invocation.getArgument(0)))).when(taskService).saveAll(anyList());
+        final EntityManager entityManager = mock(EntityManager.class);
+        final User customer = new User();
+        customer.setId(7);
+        when(entityManager.getReference(eq(User.class), any())).thenReturn(customer);
+        sut = new TaskImportService(taskService, new ObjectMapper().findAndRegisterModules(), entityManager, 2, 10);
+    }
+
+    @Test
+    public void importNdjsonWritesValidRowsInChunksAndReportsTheOthers() {
+        final TaskImportReport report = importTasks(TaskImportService.Format.NDJSON, String.join("\n",
+                json("first", "10.0"),
+                "{not json",
+                json("second", "20.0"),
+                "",
+                json("third", "-5"),
+                json("fourth", "40.0")));
+
+        assertEquals(5, report.getRows());
+        assertEquals(3, report.getImported());
+        assertEquals(2, report.getFailed());
+        assertEquals(List.of(2L, 5L), report.getErrors().stream().map(TaskImportReport.RowError::getRow).toList());
+        assertEquals("Payment must be positive", report.getErrors().get(1).getMessage());
+        assertEquals(List.of(List.of("first", "second"), List.of("fourth")),
+                chunks.stream().map(chunk -> chunk.stream().map(Task::getTitle).toList()).toList());
+        final Task task = chunks.get(0).get(0);
+        assertEquals(7, task.getCustomer().getId());
+        assertEquals(TaskType.DigitalMarketing, task.getType());
+    }
+
+    @Test
+    public void importCsvReportsRowsOfUnknownValuesAndMissingCells() {
+        final TaskImportReport report = importTasks(TaskImportService.Format.CSV, String.join("\n",
+                "title,problem,deadline,payment,type",
+                "first,\"problem, with comma\"," + DEADLINE + ",10.0,DigitalMarketing",
+                "second,problem," + DEADLINE + ",10.0,Knitting",
+                "third,," + DEADLINE + ",10.0,DigitalMarketing",
+                "fourth,problem,2000-01-01T10:00:00,10.0,DigitalMarketing"));
+
+        assertEquals(4, report.getRows());
+        assertEquals(1, report.getImported());
+        assertEquals(List.of(2L, 3L, 4L), report.getErrors().stream().map(TaskImportReport.RowError::getRow).toList());
+        assertEquals("Problem is missing", report.getErrors().get(1).getMessage());
+        assertEquals("Deadline must be in the future", report.getErrors().get(2).getMessage());
+        assertEquals("problem, with comma", chunks.get(0).get(0).getProblem());
+    }
+
+    @Test
+    public void rejectedChunkIsRetriedRowByRow() {
+        doThrow(new IllegalStateException("constraint violated")).when(taskService).saveAll(anyList());
+        when(taskService.save(any())).thenAnswer(invocation -> {
+            final Task task = invocation.getArgument(0);
+            if (task.getTitle().equals("second")) throw new IllegalStateException("constraint violated");
+            return task;
+        });
+
+        final TaskImportReport report = importTasks(TaskImportService.Format.NDJSON,
+                json("first", "10.0") + "\n" + json("second", "10.0"));
+
+        assertEquals(1, report.getImported());
+        assertEquals(1, report.getFailed());
+        assertEquals(2, report.getErrors().get(0).getRow());
+        verify(taskService, times(2)).save(any());
+    }
+
+    private TaskImportReport importTasks(TaskImportService.Format format, String body) {
+        return sut.importTasks(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format, 7);
+    }
+
+    private static String json(String title, String payment) {
+        return "{\"title\":\"" + title + "\",\"problem\":\"problem\",\"deadline\":\"" + DEADLINE
+                + "\",\"payment\":" + payment + ",\"type\":\"DigitalMarketing\"}";
+    }
+}
@@ -2,6 +2,9 @@ package freelanceplatform.services;
 
 import freelanceplatform.data.TaskRepository;
 import freelanceplatform.data.UserRepository;
+import freelanceplatform.dto.paging.KeysetPage;
+import freelanceplatform.dto.paging.TaskBoardCursor;
+import freelanceplatform.dto.readUpdate.TaskReadUpdate;
 import freelanceplatform.environment.Generator;
 import freelanceplatform.exceptions.NotFoundException;
 import freelanceplatform.exceptions.ValidationException;
@@ -15,6 +18,9 @@ import org.springframework.cache.CacheManager;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -65,7 +71,7 @@ public class TaskServiceTest extends CacheableTestBase {
 
     @Test
     public void testCaching() {
-        taskService.findById(task.getId());
+        taskService.findSnapshotById(task.getId());
 
         Assertions.assertTrue(Optional.ofNullable(cacheManager.getCache("tasks").get(task.getId())).isPresent());
         Assertions.assertFalse(Optional.ofNullable(cacheManager.getCache("tasks").get(-1)).isPresent());
@@ -135,6 +141,42 @@ public class TaskServiceTest extends CacheableTestBase {
         assertFalse(freelancer.getTakenTasks().contains(task));
     }
 
+    @Test
+    public void findTaskBoardPageWalksBoardForwardAndBackwardWithoutGapsOrDuplicates(){
+        final LocalDateTime postedDate = LocalDateTime.now().minusDays(1);
+        for (int i = 0; i < 6; i++) {
+            Task boardTask = Generator.generateTask();
+            boardTask.setCustomer(task.getCustomer());
+            // pairs of tasks share a posted date, so the id has to break the tie
+            boardTask.setPostedDate(postedDate.plusMinutes(i / 2));
+            taskService.save(boardTask);
+        }
+        final int boardSize = taskService.findAllTaskBoardByPostedDate(true).size();
+
+        KeysetPage<TaskReadUpdate> page = taskService.findTaskBoardPage(null, true, null, null, 4);
+        assertNull(page.previousCursor());
+        final List<Integer> forward = new ArrayList<>(page.items().stream().map(TaskReadUpdate::getId).toList());
+        while (page.nextCursor() != null) {
+            page = taskService.findTaskBoardPage(null, true, TaskBoardCursor.decode(page.nextCursor()), null, 4);
+            forward.addAll(page.items().stream().map(TaskReadUpdate::getId).toList());
+        }
+        assertEquals(boardSize, forward.size());
+        assertEquals(boardSize, new HashSet<>(forward).size());
+
+        final List<Integer> backward = new ArrayList<>(page.items().stream().map(TaskReadUpdate::getId).toList());
+        while (page.previousCursor() != null) {
+            page = taskService.findTaskBoardPage(null, true, null, TaskBoardCursor.decode(page.previousCursor()), 4);
+            backward.addAll(0, page.items().stream().map(TaskReadUpdate::getId).toList());
+        }
+        assertEquals(forward, backward);
+    }
+
+    @Test
+    public void findTaskBoardPageThrowsValidationExceptionIfBothCursorsAreGiven(){
+        final TaskBoardCursor cursor = new TaskBoardCursor(LocalDateTime.now(), 1);
+        assertThrows(ValidationException.class, () -> taskService.findTaskBoardPage(null, true, cursor, cursor, 4));
+    }
+
     @Override
     protected String getCacheName() {
         return "tasks";
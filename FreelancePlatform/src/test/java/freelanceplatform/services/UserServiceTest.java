@@ -6,13 +6,19 @@ import freelanceplatform.exceptions.NotFoundException;
 import freelanceplatform.model.Resume;
 import freelanceplatform.model.Role;
 import freelanceplatform.model.User;
+import freelanceplatform.services.blob.BlobContent;
 import freelanceplatform.utils.IntegrationTestBase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
 import java.util.Optional;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -64,12 +70,18 @@ public class UserServiceTest extends IntegrationTestBase {
     }
 
     @Test
-    public void getResume() {
-        final Resume resume = Generator.generateResume();
+    public void getResume() throws IOException {
+        final byte[] content = new byte[1024];
+        new Random().nextBytes(content);
         userService.save(user);
-        userService.saveResume(resume.getFilename(), resume.getContent(), user);
+        userService.saveResume("resume", "application/pdf", new ByteArrayInputStream(content), user);
 
         Resume savedResume = userService.getUsersResume(user);
-        assertEquals(resume.getContent(), savedResume.getContent());
+        assertEquals(content.length, savedResume.getSize());
+        final ByteArrayOutputStream savedContent = new ByteArrayOutputStream();
+        try (BlobContent blob = userService.openResumeContent(savedResume)) {
+            blob.transferTo(0, blob.size(), Channels.newChannel(savedContent));
+        }
+        assertArrayEquals(content, savedContent.toByteArray());
     }
 }
@@ -0,0 +1,67 @@
+package freelanceplatform.services.blob;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LocalFileBlobStoreTest {
+
+    @TempDir
+    Path root;
+
+    private LocalFileBlobStore sut;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        sut = new LocalFileBlobStore(root);
+    }
+
+    @Test
+    public void putKeysContentBySha256AndStoresEqualContentOnce() throws IOException {
+        final StoredBlob first = put("resume");
+        final StoredBlob second = put("resume");
+        final StoredBlob other = put("another resume");
+
+        assertEquals(64, first.key().length());
+        assertEquals(first, second);
+        assertEquals(6, first.size());
+        assertNotEquals(first.key(), other.key());
+        try (Stream<Path> files = Files.walk(root)) {
+            assertEquals(2, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    public void getTransfersRequestedRange() throws IOException {
+        final StoredBlob blob = put("0123456789");
+
+        try (BlobContent content = sut.get(blob.key()).orElseThrow()) {
+            assertEquals(10, content.size());
+            assertTrue(content.file().isPresent());
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            content.transferTo(2, 5, Channels.newChannel(out));
+            assertEquals("23456", out.toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void getReturnsEmptyForUnknownKeyAndRejectsMalformedKey() throws IOException {
+        assertTrue(sut.get("0".repeat(64)).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> sut.get("../" + "0".repeat(61)));
+    }
+
+    private StoredBlob put(String content) throws IOException {
+        return sut.put(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,124 @@
+package freelanceplatform.services.board;
+
+import freelanceplatform.dto.readUpdate.TaskReadUpdate;
+import freelanceplatform.events.TaskChange;
+import freelanceplatform.model.TaskStatus;
+import freelanceplatform.model.TaskType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskBoardCacheTest {
+
+    private static final String KEY = TaskBoardCache.boardKey(true);
+
+    private TaskBoardCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicInteger clears = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        cache = new TaskBoardCache(new ConcurrentMapCacheManager() {
+            @Override
+            protected Cache createConcurrentMapCache(String name) {
+                return new ConcurrentMapCache(name) {
+                    @Override
+                    public void clear() {
+                        clears.incrementAndGet();
+                        super.clear();
+                    }
+                };
+            }
+        });
+        for (TaskType type : List.of(TaskType.SalesAndMarketing, TaskType.DigitalMarketing)) load(type);
+        load(null);
+        loads.set(0);
+    }
+
+    @Test
+    public void getLoadsEachBoardOnce() {
+        load(TaskType.SalesAndMarketing);
+        load(null);
+
+        assertEquals(0, loads.get());
+        assertNotEquals(TaskBoardCache.sliceKey(true, null, 10), TaskBoardCache.sliceKey(true, null, 20));
+    }
+
+    @Test
+    public void clearAfterCommitClearsOnlyBoardsOfAffectedTypes() {
+        cache.clearAfterCommit(new TaskChange(1, task(1, TaskType.SalesAndMarketing), TaskType.SalesAndMarketing));
+
+        load(TaskType.DigitalMarketing);
+        assertEquals(0, loads.get());
+        load(TaskType.SalesAndMarketing);
+        load(null);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void clearAfterCommitClearsBoardsOfPreviousAndCurrentType() {
+        cache.clearAfterCommit(new TaskChange(1, task(1, TaskType.DigitalMarketing), TaskType.SalesAndMarketing));
+
+        load(TaskType.SalesAndMarketing);
+        load(TaskType.DigitalMarketing);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void clearAfterCommitOfUnknownTypeClearsAllBoards() {
+        cache.clearAfterCommit(TaskChange.deleted(1));
+
+        load(TaskType.SalesAndMarketing);
+        load(TaskType.DigitalMarketing);
+        load(null);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void clearAfterCommitClearsEachBoardOnceAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            for (int id = 1; id <= 3; id++) {
+                cache.clearAfterCommit(new TaskChange(id, task(id, TaskType.SalesAndMarketing), TaskType.SalesAndMarketing));
+            }
+            cache.clearAfterCommit(new TaskChange(4, task(4, TaskType.DigitalMarketing), TaskType.SalesAndMarketing));
+
+            load(TaskType.SalesAndMarketing);
+            assertEquals(0, clears.get());
+            assertEquals(0, loads.get());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(3, clears.get());
+        assertNull(TransactionSynchronizationManager.getResource(cache));
+        load(TaskType.SalesAndMarketing);
+        load(TaskType.DigitalMarketing);
+        load(null);
+        assertEquals(3, loads.get());
+    }
+
+    private void load(TaskType type) {
+        cache.get(type, KEY, () -> {
+            loads.incrementAndGet();
+            return List.of(task(loads.get(), type));
+        });
+    }
+
+    private static TaskReadUpdate task(Integer id, TaskType type) {
+        return TaskReadUpdate.builder().id(id).type(type).status(TaskStatus.UNASSIGNED).build();
+    }
+}
@@ -0,0 +1,118 @@
+package freelanceplatform.services.board;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import freelanceplatform.dto.readUpdate.TaskBoardDelta;
+import freelanceplatform.dto.readUpdate.TaskReadUpdate;
+import freelanceplatform.events.TaskChange;
+import freelanceplatform.model.TaskStatus;
+import freelanceplatform.model.TaskType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+public class TaskBoardFeedTest {
+
+    private TaskBoardFeed feed;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        feed = new TaskBoardFeed(new ObjectMapper().findAndRegisterModules(), 16, Duration.ofMinutes(1), Duration.ofSeconds(10), 1);
+        mockMvc = MockMvcBuilders.standaloneSetup(new FeedController(feed)).build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        feed.shutdown();
+    }
+
+    @Test
+    public void toDeltaMapsTaskChangesToBoardChanges() {
+        assertEquals(TaskBoardDelta.Kind.POSTED, TaskBoardFeed.toDelta(change(1, TaskType.SalesAndMarketing, TaskStatus.UNASSIGNED)).getKind());
+        assertEquals(TaskBoardDelta.Kind.ASSIGNED, TaskBoardFeed.toDelta(change(1, TaskType.SalesAndMarketing, TaskStatus.ASSIGNED)).getKind());
+        assertEquals(TaskBoardDelta.Kind.REMOVED, TaskBoardFeed.toDelta(TaskChange.deleted(1)).getKind());
+        assertNull(TaskBoardFeed.toDelta(change(1, TaskType.SalesAndMarketing, TaskStatus.ACCEPTED)));
+    }
+
+    @Test
+    public void subscriberReceivesDeltasOfItsTypeAndAllRemovals() throws Exception {
+        final MockHttpServletResponse response = mockMvc.perform(get("/feed").param("type", TaskType.SalesAndMarketing.name()))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+        assertEquals(1, feed.subscriberCount());
+
+        feed.onTaskChange(change(1, TaskType.SalesAndMarketing, TaskStatus.UNASSIGNED));
+        feed.onTaskChange(change(2, TaskType.DigitalMarketing, TaskStatus.UNASSIGNED));
+        feed.onTaskChange(change(1, TaskType.SalesAndMarketing, TaskStatus.ASSIGNED));
+        feed.onTaskChange(TaskChange.deleted(3));
+
+        final List<String> events = awaitEvents(response, 3);
+        assertEquals(List.of("POSTED", "ASSIGNED", "REMOVED"), events);
+        assertFalse(response.getContentAsString().contains("\"taskId\":2"));
+    }
+
+    @Test
+    public void taskChangingTypeIsRemovedFromBoardOfPreviousType() throws Exception {
+        final MockHttpServletResponse previous = mockMvc.perform(get("/feed").param("type", TaskType.SalesAndMarketing.name()))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+        final MockHttpServletResponse current = mockMvc.perform(get("/feed").param("type", TaskType.DigitalMarketing.name()))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+
+        feed.onTaskChange(new TaskChange(1, task(1, TaskType.DigitalMarketing, TaskStatus.UNASSIGNED), TaskType.SalesAndMarketing));
+
+        assertEquals(List.of("REMOVED"), awaitEvents(previous, 1));
+        assertEquals(List.of("POSTED"), awaitEvents(current, 1));
+        assertEquals(Set.of(TaskType.SalesAndMarketing), TaskBoardFeed.leftTypes(
+                new TaskChange(1, task(1, TaskType.DigitalMarketing, TaskStatus.ACCEPTED), TaskType.SalesAndMarketing)));
+        assertEquals(Set.of(), TaskBoardFeed.leftTypes(change(1, TaskType.DigitalMarketing, TaskStatus.UNASSIGNED)));
+        assertEquals(TaskType.values().length - 1, TaskBoardFeed.leftTypes(
+                new TaskChange(1, task(1, TaskType.DigitalMarketing, TaskStatus.UNASSIGNED))).size());
+    }
+
+    private static List<String> awaitEvents(MockHttpServletResponse response, int count) throws Exception {
+        final long deadline = System.currentTimeMillis() + 5_000;
+        List<String> events;
+        do {
+            Thread.sleep(10);
+            events = response.getContentAsString().lines()
+                    .filter(line -> line.startsWith("event:"))
+                    .map(line -> line.substring("event:".length()))
+                    .toList();
+        } while (events.size() < count && System.currentTimeMillis() < deadline);
+        return events;
+    }
+
+    private static TaskChange change(Integer id, TaskType type, TaskStatus status) {
+        return new TaskChange(id, task(id, type, status), type);
+    }
+
+    private static TaskReadUpdate task(Integer id, TaskType type, TaskStatus status) {
+        return TaskReadUpdate.builder().id(id).type(type).status(status).build();
+    }
+
+    @RestController
+    private record FeedController(TaskBoardFeed feed) {
+
+        @GetMapping("/feed")
+        public SseEmitter subscribe(@RequestParam(required = false) TaskType type) {
+            return feed.subscribe(type);
+        }
+    }
+}
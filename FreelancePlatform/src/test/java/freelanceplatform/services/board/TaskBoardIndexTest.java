@@ -0,0 +1,129 @@
+package freelanceplatform.services.board;
+
+import freelanceplatform.dto.paging.TaskBoardCursor;
+import freelanceplatform.dto.readUpdate.TaskReadUpdate;
+import freelanceplatform.events.TaskChange;
+import freelanceplatform.model.TaskStatus;
+import freelanceplatform.model.TaskType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskBoardIndexTest {
+
+    private final LocalDateTime postedDate = LocalDateTime.now().minusDays(1);
+
+    private TaskBoardIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new TaskBoardIndex(true);
+        index.rebuild(() -> List.of(
+                task(1, TaskType.SalesAndMarketing, 0),
+                task(2, TaskType.DigitalMarketing, 1),
+                task(3, TaskType.SalesAndMarketing, 1),
+                task(4, TaskType.DigitalMarketing, 2)));
+    }
+
+    @Test
+    public void findAllSortsBoardByPostedDateAndId() {
+        assertTrue(index.isReady());
+        assertEquals(List.of(4, 3, 2, 1), ids(index.findAll(null, true)));
+        assertEquals(List.of(1, 2, 3, 4), ids(index.findAll(null, false)));
+        assertEquals(List.of(3, 1), ids(index.findAll(TaskType.SalesAndMarketing, true)));
+    }
+
+    @Test
+    public void findSliceSeeksPastPosition() {
+        final TaskBoardCursor position = new TaskBoardCursor(postedDate.plusMinutes(1), 3);
+        assertEquals(List.of(2, 1), ids(index.findSlice(null, true, position, 5)));
+        assertEquals(List.of(4), ids(index.findSlice(null, false, position, 5)));
+        assertEquals(List.of(4, 3), ids(index.findSlice(null, true, null, 2)));
+    }
+
+    @Test
+    public void onTaskChangeMovesTasksOnAndOffBoard() {
+        final TaskReadUpdate assigned = task(2, TaskType.DigitalMarketing, 1);
+        assigned.setStatus(TaskStatus.ASSIGNED);
+        index.onTaskChange(new TaskChange(2, assigned));
+        index.onTaskChange(TaskChange.deleted(4));
+        index.onTaskChange(new TaskChange(3, task(3, TaskType.DigitalMarketing, 1)));
+        index.onTaskChange(new TaskChange(5, task(5, TaskType.SalesAndMarketing, 3)));
+
+        assertEquals(List.of(5, 3, 1), ids(index.findAll(null, true)));
+        assertEquals(List.of(3), ids(index.findAll(TaskType.DigitalMarketing, true)));
+        assertEquals(List.of(5, 1), ids(index.findAll(TaskType.SalesAndMarketing, true)));
+    }
+
+    @Test
+    public void onTaskChangeIgnoresChangesOlderThanApplied() {
+        final TaskReadUpdate assigned = task(2, TaskType.DigitalMarketing, 1);
+        assigned.setStatus(TaskStatus.ASSIGNED);
+        index.onTaskChange(new TaskChange(2, assigned, TaskType.DigitalMarketing, 2));
+        index.onTaskChange(new TaskChange(2, task(2, TaskType.DigitalMarketing, 1), TaskType.DigitalMarketing, 1));
+        index.onTaskChange(TaskChange.deleted(4, TaskType.DigitalMarketing));
+        index.onTaskChange(new TaskChange(4, task(4, TaskType.DigitalMarketing, 2), TaskType.DigitalMarketing, 3));
+
+        assertEquals(List.of(3, 1), ids(index.findAll(null, true)));
+    }
+
+    @Test
+    public void rebuildKeepsVersionsOfTasksOnBoard() {
+        index.onTaskChange(new TaskChange(1, task(1, TaskType.DigitalMarketing, 0), TaskType.SalesAndMarketing, 3));
+        index.rebuild(() -> List.of(task(1, TaskType.DigitalMarketing, 0)));
+        index.onTaskChange(new TaskChange(1, task(1, TaskType.SalesAndMarketing, 0), TaskType.DigitalMarketing, 2));
+
+        assertEquals(List.of(1), ids(index.findAll(TaskType.DigitalMarketing, true)));
+        assertTrue(index.findAll(TaskType.SalesAndMarketing, true).isEmpty());
+    }
+
+    @Test
+    public void rebuildDropsTasksMissingFromSnapshot() {
+        index.rebuild(() -> List.of(task(1, TaskType.SalesAndMarketing, 0)));
+
+        assertEquals(List.of(1), ids(index.findAll(null, true)));
+        assertTrue(index.findAll(TaskType.DigitalMarketing, true).isEmpty());
+    }
+
+    @Test
+    public void rebuildKeepsChangesDeliveredWhileBoardIsLoaded() {
+        final TaskReadUpdate assigned = task(2, TaskType.DigitalMarketing, 1);
+        assigned.setStatus(TaskStatus.ASSIGNED);
+        final List<TaskReadUpdate> loaded = List.of(
+                task(2, TaskType.DigitalMarketing, 1),
+                task(4, TaskType.DigitalMarketing, 2));
+
+        index.rebuild(() -> {
+            index.onTaskChange(new TaskChange(2, assigned));
+            index.onTaskChange(new TaskChange(5, task(5, TaskType.SalesAndMarketing, 3)));
+            return loaded;
+        });
+
+        assertEquals(List.of(5, 4), ids(index.findAll(null, true)));
+    }
+
+    @Test
+    public void disabledIndexIsNeverReady() {
+        final TaskBoardIndex disabled = new TaskBoardIndex(false);
+        disabled.rebuild(List::of);
+        assertFalse(disabled.isReady());
+    }
+
+    private TaskReadUpdate task(Integer id, TaskType type, int minutes) {
+        return TaskReadUpdate.builder()
+                .id(id)
+                .title("title " + id)
+                .type(type)
+                .status(TaskStatus.UNASSIGNED)
+                .postedDate(postedDate.plusMinutes(minutes))
+                .build();
+    }
+
+    private static List<Integer> ids(List<TaskReadUpdate> tasks) {
+        return tasks.stream().map(TaskReadUpdate::getId).toList();
+    }
+}
@@ -0,0 +1,74 @@
+package freelanceplatform.services.board;
+
+import freelanceplatform.data.TaskFacetCount;
+import freelanceplatform.data.TaskFacetRow;
+import freelanceplatform.dto.readUpdate.TaskFacets;
+import freelanceplatform.dto.readUpdate.TaskReadUpdate;
+import freelanceplatform.events.TaskChange;
+import freelanceplatform.model.TaskStatus;
+import freelanceplatform.model.TaskType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskFacetCountsTest {
+
+    private TaskFacetCounts counts;
+
+    @BeforeEach
+    public void setUp() {
+        counts = new TaskFacetCounts();
+        counts.rebuild(Stream.of(
+                new TaskFacetRow(1, TaskType.SalesAndMarketing, TaskStatus.UNASSIGNED),
+                new TaskFacetRow(2, TaskType.DigitalMarketing, TaskStatus.UNASSIGNED),
+                new TaskFacetRow(3, TaskType.DigitalMarketing, TaskStatus.ASSIGNED)));
+    }
+
+    @Test
+    public void rebuildCountsTasksPerTypeAndStatus() {
+        final TaskFacets facets = counts.snapshot();
+
+        assertTrue(counts.isReady());
+        assertEquals(1L, facets.getTypes().get(TaskType.SalesAndMarketing));
+        assertEquals(2L, facets.getTypes().get(TaskType.DigitalMarketing));
+        assertEquals(2L, facets.getStatuses().get(TaskStatus.UNASSIGNED));
+        assertEquals(1L, facets.getStatuses().get(TaskStatus.ASSIGNED));
+        assertEquals(0L, facets.getStatuses().get(TaskStatus.ACCEPTED));
+    }
+
+    @Test
+    public void onTaskChangeMovesTaskBetweenCounters() {
+        counts.onTaskChange(new TaskChange(2, task(2, TaskType.SalesAndMarketing, TaskStatus.ASSIGNED)));
+        counts.onTaskChange(new TaskChange(2, task(2, TaskType.SalesAndMarketing, TaskStatus.ASSIGNED)));
+        counts.onTaskChange(TaskChange.deleted(3));
+        counts.onTaskChange(TaskChange.deleted(3));
+
+        final TaskFacets facets = counts.snapshot();
+        assertEquals(2L, facets.getTypes().get(TaskType.SalesAndMarketing));
+        assertEquals(0L, facets.getTypes().get(TaskType.DigitalMarketing));
+        assertEquals(1L, facets.getStatuses().get(TaskStatus.UNASSIGNED));
+        assertEquals(1L, facets.getStatuses().get(TaskStatus.ASSIGNED));
+    }
+
+    @Test
+    public void reconcileReportsDriftOnlyWhenItPersists() {
+        final List<TaskFacetCount> database = List.of(
+                new TaskFacetCount(TaskType.SalesAndMarketing, TaskStatus.UNASSIGNED, 1L),
+                new TaskFacetCount(TaskType.DigitalMarketing, TaskStatus.UNASSIGNED, 1L),
+                new TaskFacetCount(TaskType.DigitalMarketing, TaskStatus.ASSIGNED, 1L));
+        assertFalse(counts.reconcile(database));
+
+        final List<TaskFacetCount> drifted = List.of(
+                new TaskFacetCount(TaskType.SalesAndMarketing, TaskStatus.UNASSIGNED, 2L));
+        assertFalse(counts.reconcile(drifted));
+        assertTrue(counts.reconcile(drifted));
+    }
+
+    private static TaskReadUpdate task(Integer id, TaskType type, TaskStatus status) {
+        return TaskReadUpdate.builder().id(id).type(type).status(status).build();
+    }
+}
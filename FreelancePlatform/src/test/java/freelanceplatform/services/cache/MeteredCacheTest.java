@@ -0,0 +1,70 @@
+package freelanceplatform.services.cache;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MeteredCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MeteredCacheManager cacheManager = new MeteredCacheManager(new ConcurrentMapCacheManager(), registry);
+    private final List<DistributionStatisticConfig> loadDistributions = new ArrayList<>();
+
+    @BeforeEach
+    public void recordLoadDistributions() {
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getName().equals("cache.load.duration")) loadDistributions.add(config);
+                return config;
+            }
+        });
+    }
+
+    @Test
+    public void metersCountLookupsLoadsAndEvictions() {
+        final Cache cache = cacheManager.getCache("tasks");
+        cache.get(1, () -> "first");
+        cache.get(1, () -> "ignored");
+        cache.get(2);
+        cache.put(2, "second");
+        cache.get(2);
+        cache.evict(1);
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(3, () -> {
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(2, count("cache.gets", "result", "hit"));
+        assertEquals(3, count("cache.gets", "result", "miss"));
+        assertEquals(1, count("cache.puts"));
+        assertEquals(1, count("cache.evictions"));
+        assertEquals(1, registry.get("cache.size").tag("cache", "tasks").gauge().value());
+        final Timer loads = registry.get("cache.load.duration").tags("cache", "tasks", "result", "success").timer();
+        assertEquals(1, loads.count());
+        assertFalse(loadDistributions.isEmpty());
+        loadDistributions.forEach(distribution -> assertTrue(distribution.isPercentileHistogram()));
+        assertEquals(1, registry.get("cache.load.duration").tags("cache", "tasks", "result", "failure").timer().count());
+    }
+
+    @Test
+    public void getCacheReturnsSameMeteredCache() {
+        assertSame(cacheManager.getCache("users"), cacheManager.getCache("users"));
+        assertEquals(1, registry.find("cache.puts").functionCounters().size());
+        assertNull(registry.find("cache.puts").tag("cache", "tasks").functionCounter());
+    }
+
+    private double count(String name, String... tags) {
+        return registry.get(name).tag("cache", "tasks").tags(tags).functionCounter().count();
+    }
+}
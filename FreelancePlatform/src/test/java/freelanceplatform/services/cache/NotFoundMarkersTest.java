@@ -0,0 +1,61 @@
+package freelanceplatform.services.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NotFoundMarkersTest {
+
+    private final NotFoundMarkers markers = new NotFoundMarkers(new ConcurrentMapCacheManager());
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    public void markMissingIsScopedToCacheAndKey() {
+        markers.markMissing("tasks", 1);
+
+        assertTrue(markers.isMissing("tasks", 1));
+        assertFalse(markers.isMissing("tasks", 2));
+        assertFalse(markers.isMissing("users", 1));
+    }
+
+    @Test
+    public void markPresentAfterCommitKeepsMarkerUntilCommit() {
+        markers.markMissing("tasks", 1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        markers.markPresentAfterCommit("tasks", 1);
+        assertTrue(markers.isMissing("tasks", 1));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertFalse(markers.isMissing("tasks", 1));
+    }
+
+    @Test
+    public void markMissingAfterCommitOfSaveDoesNotMark() {
+        TransactionSynchronizationManager.initSynchronization();
+        markers.markPresentAfterCommit("tasks", 1);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // a lookup that read before the commit marks the id only now
+        markers.markMissing("tasks", 1);
+
+        assertFalse(markers.isMissing("tasks", 1));
+    }
+
+    @Test
+    public void markPresentAfterCommitClearsRightAwayWithoutTransaction() {
+        markers.markMissing("users", 1);
+
+        markers.markPresentAfterCommit("users", 1);
+
+        assertFalse(markers.isMissing("users", 1));
+    }
+}
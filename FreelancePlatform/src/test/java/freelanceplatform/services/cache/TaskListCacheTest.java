@@ -0,0 +1,62 @@
+package freelanceplatform.services.cache;
+
+import freelanceplatform.dto.readUpdate.TaskReadUpdate;
+import freelanceplatform.model.TaskStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskListCacheTest {
+
+    private final TaskListCache cache = new TaskListCache(new ConcurrentMapCacheManager(), Duration.ofHours(1));
+    private final List<LocalDateTime> loads = new ArrayList<>();
+    private final Function<LocalDateTime, List<TaskReadUpdate>> loader = deadline -> {
+        loads.add(deadline);
+        return List.of();
+    };
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    public void getLoadsOncePerUserStatusAndExpiry() {
+        cache.getPosted(1, TaskStatus.UNASSIGNED, false, loader);
+        cache.getPosted(1, TaskStatus.UNASSIGNED, false, loader);
+        cache.getPosted(1, TaskStatus.UNASSIGNED, true, loader);
+        cache.getPosted(1, null, false, loader);
+        cache.getTaken(1, TaskStatus.UNASSIGNED, false, loader);
+
+        assertEquals(4, loads.size());
+        assertFalse(loads.get(0).isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    public void evictAfterCommitEvictsPostedOfCustomerAndTakenOfFreelancer() {
+        cache.getPosted(1, null, false, loader);
+        cache.getTaken(2, TaskStatus.ASSIGNED, true, loader);
+        cache.getPosted(2, null, false, loader);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evictAfterCommit(1, 2);
+        cache.getPosted(1, null, false, loader);
+        assertEquals(3, loads.size());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        cache.getPosted(1, null, false, loader);
+        cache.getTaken(2, TaskStatus.ASSIGNED, true, loader);
+        cache.getPosted(2, null, false, loader);
+        assertEquals(5, loads.size());
+    }
+}
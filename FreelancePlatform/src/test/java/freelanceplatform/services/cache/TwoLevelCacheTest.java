@@ -0,0 +1,86 @@
+package freelanceplatform.services.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TwoLevelCacheTest {
+
+    private final Cache shared = new ConcurrentMapCache("tasks");
+    private final TwoLevelCache cache = new TwoLevelCache(shared, 100, Duration.ofMinutes(1));
+
+    @Test
+    public void getKeepsSharedValueLocally() {
+        final Object value = new Object();
+        assertSame(value, cache.get(1, () -> value));
+        shared.put(1, "changed without invalidation");
+
+        assertSame(value, cache.get(1, () -> "ignored"));
+        assertSame(value, cache.get(1).get());
+        assertEquals(2, cache.localHits());
+        assertEquals(1, cache.localSize());
+    }
+
+    @Test
+    public void writesAndInvalidationsDropLocalCopy() {
+        cache.get(1, () -> "first");
+        cache.put(1, "second");
+        assertEquals("second", cache.get(1, String.class));
+
+        shared.put(1, "third");
+        cache.invalidateLocal(1);
+        assertEquals("third", cache.get(1, () -> "ignored"));
+
+        shared.put(1, "fourth");
+        cache.invalidateLocal();
+        assertEquals("fourth", cache.get(1).get());
+
+        cache.evict(1);
+        assertNull(cache.get(1));
+    }
+
+    @Test
+    public void getDoesNotKeepValueReadDuringInvalidation() {
+        cache.get(1, () -> {
+            cache.invalidateLocal(1);
+            return "stale";
+        });
+        shared.put(1, "fresh");
+
+        assertEquals("fresh", cache.get(1, () -> "ignored"));
+    }
+
+    @Test
+    public void getKeepsValueReadDuringInvalidationOfOtherKey() {
+        cache.get(1, () -> {
+            cache.invalidateLocal(2);
+            return "first";
+        });
+        shared.put(1, "changed without invalidation");
+
+        assertEquals("first", cache.get(1, () -> "ignored"));
+        assertEquals(1, cache.localHits());
+    }
+
+    @Test
+    public void getDoesNotKeepValueReadDuringInvalidationOfAllKeys() {
+        cache.get(1, () -> {
+            cache.invalidateLocal();
+            return "stale";
+        });
+        shared.put(1, "fresh");
+
+        assertEquals("fresh", cache.get(1).get());
+    }
+
+    @Test
+    public void getKeepsNullValuesLocally() {
+        assertNull(cache.get(1, () -> null));
+        assertNull(cache.get(1, () -> "ignored"));
+        assertEquals(1, cache.localHits());
+    }
+}
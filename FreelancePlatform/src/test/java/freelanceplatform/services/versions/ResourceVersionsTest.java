@@ -0,0 +1,67 @@
+package freelanceplatform.services.versions;
+
+import freelanceplatform.dto.readUpdate.TaskReadUpdate;
+import freelanceplatform.events.TaskChange;
+import freelanceplatform.model.TaskType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResourceVersionsTest {
+
+    private final ConcurrentHashMap<String, Long> versions = new ConcurrentHashMap<>();
+    private ResourceVersions sut;
+
+    @BeforeEach
+    public void setUp() {
+        sut = new ResourceVersions(versions);
+    }
+
+    @Test
+    public void tagsAreSharedByInstancesUsingTheSameVersions() {
+        final ResourceVersions other = new ResourceVersions(versions);
+
+        assertEquals(sut.taskTag(1), other.taskTag(1));
+        sut.userChanged(1);
+        assertEquals(sut.userTag(1), other.userTag(1));
+        assertNotEquals(sut.userTag(1), new ResourceVersions(new ConcurrentHashMap<>()).userTag(1));
+    }
+
+    @Test
+    public void taskChangeBumpsTaskAndBoardsOfItsPreviousAndCurrentType() {
+        final String task = sut.taskTag(1);
+        final String otherTask = sut.taskTag(2);
+        final String all = sut.boardTag(null);
+        final String sales = sut.boardTag(TaskType.SalesAndMarketing);
+        final String digital = sut.boardTag(TaskType.DigitalMarketing);
+        final String design = sut.boardTag(TaskType.TutoringAndEducation);
+
+        sut.taskChanged(new TaskChange(1, TaskReadUpdate.builder().id(1).type(TaskType.DigitalMarketing).build(),
+                TaskType.SalesAndMarketing));
+
+        assertNotEquals(task, sut.taskTag(1));
+        assertEquals(otherTask, sut.taskTag(2));
+        assertNotEquals(all, sut.boardTag(null));
+        assertNotEquals(sales, sut.boardTag(TaskType.SalesAndMarketing));
+        assertNotEquals(digital, sut.boardTag(TaskType.DigitalMarketing));
+        assertEquals(design, sut.boardTag(TaskType.TutoringAndEducation));
+    }
+
+    @Test
+    public void userChangeBumpsUserTasksAndBoards() {
+        final String user = sut.userTag(1);
+        final String otherUser = sut.userTag(2);
+        final String task = sut.taskTag(1);
+        final String board = sut.boardTag(null);
+
+        sut.userChanged(1);
+
+        assertNotEquals(user, sut.userTag(1));
+        assertEquals(otherUser, sut.userTag(2));
+        assertNotEquals(task, sut.taskTag(1));
+        assertNotEquals(board, sut.boardTag(null));
+    }
+}
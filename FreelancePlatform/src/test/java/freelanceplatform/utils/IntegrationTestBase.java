@@ -23,7 +23,7 @@ import org.testcontainers.containers.PostgreSQLContainer;
 @ActiveProfiles("test")
 @EmbeddedKafka(partitions = 1, topics = { "test-topic" })
 public abstract class IntegrationTestBase {
-    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+    protected static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
             "postgres:16-alpine"
     );
 
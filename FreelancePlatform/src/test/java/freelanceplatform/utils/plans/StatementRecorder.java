@@ -0,0 +1,133 @@
+package freelanceplatform.utils.plans;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Wraps the application {@link DataSource} and records every executed prepared statement together with
+ * its bound parameters while recording is switched on, so the exact SQL issued by a repository method
+ * can be replayed later, e.g. under EXPLAIN.
+ */
+public class StatementRecorder implements BeanPostProcessor {
+
+    private final List<RecordedStatement> recorded = new CopyOnWriteArrayList<>();
+    private volatile boolean recording;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof RecordingDataSource)) {
+            return new RecordingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    /**
+     * Runs the action and returns the statements it executed.
+     *
+     * @param action the action to record
+     * @return executed statements in execution order
+     */
+    public List<RecordedStatement> record(Runnable action) {
+        recorded.clear();
+        recording = true;
+        try {
+            action.run();
+        } finally {
+            recording = false;
+        }
+        return List.copyOf(recorded);
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    final Object result = invoke(connection, method, args);
+                    if (method.getName().equals("prepareStatement") && args != null && args[0] instanceof String sql) {
+                        return wrap((PreparedStatement) result, sql);
+                    }
+                    return result;
+                });
+    }
+
+    private PreparedStatement wrap(PreparedStatement statement, String sql) {
+        final Map<Integer, Bind> binds = new TreeMap<>();
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    final String name = method.getName();
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                        binds.put(index, new Bind(method, args));
+                    } else if (name.equals("clearParameters")) {
+                        binds.clear();
+                    } else if (recording && (args == null || args.length == 0)
+                            && (name.equals("executeQuery") || name.equals("execute"))) {
+                        recorded.add(new RecordedStatement(sql, List.copyOf(binds.values())));
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * A single parameter binding, replayed by calling the same setter with the same arguments.
+     */
+    public record Bind(Method setter, Object[] args) {
+    }
+
+    /**
+     * An executed statement with its parameter bindings.
+     */
+    public record RecordedStatement(String sql, List<Bind> binds) {
+
+        /**
+         * Binds the recorded parameters to another statement with the same placeholders.
+         *
+         * @param statement the statement to bind to
+         * @throws SQLException if a parameter cannot be bound
+         */
+        public void bindTo(PreparedStatement statement) throws SQLException {
+            for (Bind bind : binds) {
+                try {
+                    bind.setter().invoke(statement, bind.args());
+                } catch (ReflectiveOperationException e) {
+                    throw new SQLException("Cannot replay binding " + bind.setter().getName(), e);
+                }
+            }
+        }
+    }
+
+    private class RecordingDataSource extends DelegatingDataSource {
+
+        RecordingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrap(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrap(super.getConnection(username, password));
+        }
+    }
+}
@@ -0,0 +1,11 @@
+#!/bin/sh
+# Starts a hot standby of the primary, cloning it on the first start.
+set -e
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+  until gosu postgres pg_basebackup -h postgres -U "$POSTGRES_USER" -D "$PGDATA" -R -X stream; do
+    echo "Waiting for the primary"
+    sleep 1
+  done
+  chmod 700 "$PGDATA"
+fi
+exec gosu postgres postgres -c hot_standby=on